@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.registry.Registries;
+
+/**
+ * Utilities shared by the blackboard benchmarks.
+ */
+final class BlackboardBenchmarks {
+	private static boolean bootstrapped;
+
+	private BlackboardBenchmarks() {
+		throw new UnsupportedOperationException("BlackboardBenchmarks only contains static definitions.");
+	}
+
+	/**
+	 * Bootstraps the vanilla registries and registers the blackboard colors of vanilla items,
+	 * as the mod initializer would do in game.
+	 */
+	static synchronized void bootstrap() {
+		if (bootstrapped)
+			return;
+
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+
+		for (var item : Registries.ITEM) {
+			BlackboardColor.tryRegisterColorFromItem(Registries.ITEM.getId(item), item);
+		}
+
+		bootstrapped = true;
+	}
+
+	/**
+	 * Creates a blackboard holding the given test drawing.
+	 *
+	 * @param drawing the name of the drawing
+	 * @return the blackboard
+	 * @see BlackboardMesherBenchmark#createDrawing(String)
+	 */
+	static Blackboard createBlackboard(String drawing) {
+		var blackboard = new Blackboard();
+		var pixels = BlackboardMesherBenchmark.createDrawing(drawing);
+		System.arraycopy(pixels, 0, blackboard.getPixels(), 0, pixels.length);
+		blackboard.getChanges().clear();
+		return blackboard;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the render color lookup table against computing the render color of each raw color.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlackboardColorBenchmark {
+	private final short[] colors = new short[256];
+
+	@Setup
+	public void setup() {
+		BlackboardBenchmarks.bootstrap();
+
+		var random = new Random(42);
+		for (int i = 0; i < this.colors.length; i++) {
+			this.colors[i] = (short) ((1 + random.nextInt(20)) << 8 | random.nextInt(256));
+		}
+	}
+
+	@Benchmark
+	public void lookup(Blackhole blackhole) {
+		for (short color : this.colors) {
+			blackhole.consume(BlackboardColor.getRenderColor(color));
+		}
+	}
+
+	@Benchmark
+	public void compute(Blackhole blackhole) {
+		for (short color : this.colors) {
+			blackhole.consume(BlackboardColor.fromRaw(color).getRenderColor(
+					BlackboardColor.getShadeFromRaw(color), BlackboardColor.getSaturationFromRaw(color)
+			));
+		}
+	}
+}
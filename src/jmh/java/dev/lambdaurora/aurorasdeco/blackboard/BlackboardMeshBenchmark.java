@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.minecraft.util.math.Direction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the mesh generation of blackboards against a {@linkplain StubRenderer stub renderer}.
+ * <p>
+ * The amount of emitted quads per mesh is reported as the {@code quads} secondary result of each benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlackboardMeshBenchmark {
+	@Param({"empty", "filled", "sketch", "stripes", "noise", "checkerboard"})
+	public String drawing;
+
+	private Blackboard blackboard;
+	private StubRenderer renderer;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BlackboardBenchmarks.bootstrap();
+		this.blackboard = BlackboardBenchmarks.createBlackboard(this.drawing);
+		this.renderer = new StubRenderer();
+	}
+
+	@Benchmark
+	public Mesh buildMesh(BlackboardMesherBenchmark.QuadCounter counter) {
+		return this.buildMesh(counter, 0);
+	}
+
+	@Benchmark
+	public Mesh buildLitMesh(BlackboardMesherBenchmark.QuadCounter counter) {
+		return this.buildMesh(counter, 0x00f000f0);
+	}
+
+	private Mesh buildMesh(BlackboardMesherBenchmark.QuadCounter counter, int light) {
+		long emittedQuads = this.renderer.getEmittedQuads();
+		var mesh = this.blackboard.buildMesh(this.renderer, null, Direction.NORTH, light);
+		counter.quads = (int) (this.renderer.getEmittedQuads() - emittedQuads);
+		return mesh;
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the greedy blackboard mesher against one quad per pixel.
+ * <p>
+ * The amount of quads emitted by both approaches is reported as the {@code quads} secondary result of each benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlackboardMesherBenchmark {
+	@Param({"empty", "filled", "sketch", "stripes", "noise", "checkerboard"})
+	public String drawing;
+
+	private short[] pixels;
+
+	@Setup
+	public void setup() {
+		this.pixels = createDrawing(this.drawing);
+	}
+
+	@Benchmark
+	public int greedy(Blackhole blackhole, QuadCounter counter) {
+		return counter.quads = BlackboardMesher.mesh(this.pixels, (x, y, width, height, color) -> {
+			blackhole.consume(x + y + width + height + color);
+		});
+	}
+
+	@Benchmark
+	public int perPixel(Blackhole blackhole, QuadCounter counter) {
+		return counter.quads = perPixel(this.pixels, (x, y, width, height, color) -> {
+			blackhole.consume(x + y + width + height + color);
+		});
+	}
+
+	/**
+	 * Reports the amount of quads of the last mesh as a secondary result of the benchmarks.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class QuadCounter {
+		public int quads;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.quads = 0;
+		}
+	}
+
+	/**
+	 * Splits the given drawing into one rectangle per pixel, like the mesh building did before greedy meshing.
+	 */
+	static int perPixel(short[] pixels, BlackboardMesher.RectangleConsumer consumer) {
+		int quads = 0;
+		for (int y = 0; y < 16; y++) {
+			for (int x = 0; x < 16; x++) {
+				short color = pixels[y * 16 + x];
+				if (color != 0) {
+					consumer.accept(x, y, 1, 1, color);
+					quads++;
+				}
+			}
+		}
+		return quads;
+	}
+
+	/**
+	 * Creates a test drawing.
+	 * <p>
+	 * Colors are raw colors with arbitrary identifiers, the mesher only compares them.
+	 *
+	 * @param name the name of the drawing
+	 * @return the raw pixels of the drawing
+	 */
+	static short[] createDrawing(String name) {
+		var pixels = new short[256];
+		var random = new Random(42);
+
+		switch (name) {
+			case "filled" -> Arrays.fill(pixels, (short) 0x0100);
+			case "sketch" -> {
+				// A framed drawing with a few strokes, like most signs and drawings.
+				for (int i = 0; i < 16; i++) {
+					pixels[i] = pixels[240 + i] = pixels[i * 16] = pixels[i * 16 + 15] = 0x0200;
+				}
+				for (int i = 3; i < 13; i++) {
+					pixels[i * 16 + i] = 0x0300;
+					pixels[8 * 16 + i] = 0x0410;
+				}
+				for (int y = 10; y < 14; y++) {
+					for (int x = 2; x < 6; x++) {
+						pixels[y * 16 + x] = 0x0500;
+					}
+				}
+			}
+			case "stripes" -> {
+				for (int y = 0; y < 16; y++) {
+					for (int x = 0; x < 16; x++) {
+						pixels[y * 16 + x] = (short) (((y / 3) + 1) << 8);
+					}
+				}
+			}
+			case "noise" -> {
+				for (int i = 0; i < pixels.length; i++) {
+					pixels[i] = (short) (random.nextInt(4) << 8);
+				}
+			}
+			case "checkerboard" -> {
+				for (int y = 0; y < 16; y++) {
+					for (int x = 0; x < 16; x++) {
+						pixels[y * 16 + x] = (short) (((x + y) & 1) == 0 ? 0x0100 : 0x0200);
+					}
+				}
+			}
+			default -> {
+			}
+		}
+
+		return pixels;
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the drawing operations of {@link Blackboard}, as executed when a player draws on a blackboard.
+ * <p>
+ * Each invocation works on a fresh copy of the drawing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlackboardOperationsBenchmark {
+	private static final short COLOR = 0x0a00;
+
+	@Param({"empty", "sketch", "stripes", "noise", "checkerboard"})
+	public String drawing;
+
+	private Blackboard source;
+	private final Blackboard blackboard = new Blackboard();
+
+	@Setup
+	public void setup() {
+		BlackboardBenchmarks.bootstrap();
+		this.source = BlackboardBenchmarks.createBlackboard(this.drawing);
+	}
+
+	@Setup(Level.Invocation)
+	public void reset() {
+		this.blackboard.copy(this.source);
+		this.blackboard.getChanges().clear();
+	}
+
+	@Benchmark
+	public Blackboard line() {
+		this.blackboard.line(0, 2, 15, 13, BlackboardDrawModifier.SHADE_INCREASE);
+		return this.blackboard;
+	}
+
+	@Benchmark
+	public Blackboard fill() {
+		this.blackboard.fill(7, 7, COLOR);
+		return this.blackboard;
+	}
+
+	@Benchmark
+	public Blackboard brush() {
+		this.blackboard.brush(7, 7, COLOR);
+		return this.blackboard;
+	}
+
+	@Benchmark
+	public Blackboard replace() {
+		this.blackboard.replace(7, 7, COLOR);
+		return this.blackboard;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the mask-based blackboard raster operations against the previous per-pixel implementations.
+ * <p>
+ * Each invocation works on a fresh copy of the drawing so that fills always have work to do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlackboardRasterBenchmark {
+	private static final short COLOR = 0x0a00;
+
+	@Param({"empty", "sketch", "stripes", "noise", "checkerboard"})
+	public String drawing;
+
+	private short[] source;
+	private short[] pixels;
+	private final BlackboardMask changes = new BlackboardMask();
+
+	@Setup
+	public void setup() {
+		this.source = BlackboardMesherBenchmark.createDrawing(this.drawing);
+		this.pixels = this.source.clone();
+	}
+
+	@Setup(Level.Invocation)
+	public void reset() {
+		System.arraycopy(this.source, 0, this.pixels, 0, this.pixels.length);
+		this.changes.clear();
+	}
+
+	@Benchmark
+	public short[] fillScanline() {
+		BlackboardRaster.fill(this.pixels, 7, 7, COLOR, this.changes);
+		return this.pixels;
+	}
+
+	@Benchmark
+	public short[] fillRecursive() {
+		int target = this.pixels[7 * 16 + 7];
+		if (target != COLOR)
+			flood(this.pixels, 7, 7, target, COLOR);
+		return this.pixels;
+	}
+
+	@Benchmark
+	public short[] replaceMask() {
+		BlackboardRaster.replace(this.pixels, 7, 7, COLOR, this.changes);
+		return this.pixels;
+	}
+
+	@Benchmark
+	public short[] replaceScan() {
+		short target = this.pixels[7 * 16 + 7];
+		for (int i = 0; i < this.pixels.length; i++) {
+			if (this.pixels[i] == target)
+				this.pixels[i] = COLOR;
+		}
+		return this.pixels;
+	}
+
+	@Benchmark
+	public short[] brushMask() {
+		BlackboardRaster.paint(this.pixels, BlackboardRaster.brushMask(7, 7), COLOR, this.changes);
+		return this.pixels;
+	}
+
+	/**
+	 * The recursive flood fill used before the scanline fill, which recurses once per filled pixel.
+	 */
+	private static void flood(short[] pixels, int x, int y, int target, int replacement) {
+		if (pixels[y * 16 + x] == target) {
+			pixels[y * 16 + x] = (short) replacement;
+			flood(pixels, (x <= 0 ? x : x - 1), y, target, replacement);
+			flood(pixels, (x >= 15 ? x : x + 1), y, target, replacement);
+			flood(pixels, x, (y <= 0 ? y : y - 1), target, replacement);
+			flood(pixels, x, (y >= 15 ? y : y + 1), target, replacement);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import net.minecraft.nbt.NbtCompound;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the NBT serialization of blackboards, reading every known format version and writing the current one.
+ * <p>
+ * The legacy formats are encoded the same way as the serialization tests do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlackboardSerializationBenchmark {
+	@Param({"empty", "sketch", "stripes", "noise", "checkerboard"})
+	public String drawing;
+
+	@Param({"0", "1", "2", "3"})
+	public int version;
+
+	private Blackboard source;
+	private byte[] data;
+	private final Blackboard blackboard = new Blackboard();
+
+	@Setup
+	public void setup() {
+		BlackboardBenchmarks.bootstrap();
+		this.source = BlackboardBenchmarks.createBlackboard(this.drawing);
+
+		var pixels = this.source.getPixels();
+		this.data = switch (this.version) {
+			case 0 -> encodeVersion0(pixels);
+			case 1 -> encodeVersion1(pixels);
+			case 2 -> encodeVersion2(pixels);
+			default -> Blackboard.encode3(pixels);
+		};
+	}
+
+	@Benchmark
+	public Blackboard readNbt() {
+		var nbt = new NbtCompound();
+		// Reading the older formats converts the pixel data in place.
+		nbt.putByteArray("pixels", this.data.clone());
+		if (this.version != 0)
+			nbt.putInt("version", this.version);
+
+		this.blackboard.readNbt(nbt);
+		return this.blackboard;
+	}
+
+	@Benchmark
+	public NbtCompound writeNbt() {
+		return this.source.writeNbt(new NbtCompound());
+	}
+
+	/**
+	 * Version 0: one byte per pixel, the color identifier.
+	 */
+	private static byte[] encodeVersion0(short[] pixels) {
+		var data = new byte[256];
+
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) (pixels[i] >> 8);
+		}
+
+		return data;
+	}
+
+	/**
+	 * Version 1: one byte per pixel, the color identifier times 4 plus the shade.
+	 */
+	private static byte[] encodeVersion1(short[] pixels) {
+		var data = new byte[256];
+
+		for (int i = 0; i < data.length; i++) {
+			if (pixels[i] != 0) {
+				data[i] = (byte) ((pixels[i] >> 8) * 4 + ((pixels[i] >> 4) & 3));
+			}
+		}
+
+		return data;
+	}
+
+	/**
+	 * Version 2: a zero byte per empty pixel, or the two bytes of the raw color.
+	 */
+	private static byte[] encodeVersion2(short[] pixels) {
+		int length = 0;
+		for (short pixel : pixels) {
+			length += pixel == 0 ? 1 : 2;
+		}
+
+		var data = new byte[length];
+		int rawIndex = 0;
+		for (short pixel : pixels) {
+			if (pixel == 0) {
+				data[rawIndex++] = 0;
+			} else {
+				data[rawIndex++] = (byte) (pixel >> 8);
+				data[rawIndex++] = (byte) (pixel & 0xff);
+			}
+		}
+
+		return data;
+	}
+}
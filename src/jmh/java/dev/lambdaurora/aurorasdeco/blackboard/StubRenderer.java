@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import net.fabricmc.fabric.api.renderer.v1.Renderer;
+import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
+import net.fabricmc.fabric.api.renderer.v1.material.MaterialFinder;
+import net.fabricmc.fabric.api.renderer.v1.material.MaterialView;
+import net.fabricmc.fabric.api.renderer.v1.material.RenderMaterial;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MeshBuilder;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadView;
+import net.fabricmc.fabric.api.util.TriState;
+import net.minecraft.client.render.model.BakedQuad;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Vector2f;
+import org.joml.Vector3f;
+
+/**
+ * A stub renderer which only counts the emitted quads, so that mesh generation can be measured without a game client.
+ * <p>
+ * Quads are discarded as they are emitted, and {@link #build()} returns {@code null} as no mesh is ever stored.
+ * Every call is a plain virtual call, so the measured time is only the cost of generating the quads.
+ */
+final class StubRenderer implements Renderer, MeshBuilder {
+	private final Material material = new Material();
+	private final Emitter emitter = new Emitter();
+	private long emitted;
+
+	/**
+	 * {@return the amount of quads emitted since the creation of this renderer}
+	 */
+	long getEmittedQuads() {
+		return this.emitted;
+	}
+
+	/* Renderer */
+
+	@Override
+	public MeshBuilder meshBuilder() {
+		return this;
+	}
+
+	@Override
+	public MaterialFinder materialFinder() {
+		return this.material;
+	}
+
+	@Override
+	public @Nullable RenderMaterial materialById(Identifier id) {
+		return null;
+	}
+
+	@Override
+	public boolean registerMaterial(Identifier id, RenderMaterial material) {
+		return false;
+	}
+
+	/* Mesh builder */
+
+	@Override
+	public QuadEmitter getEmitter() {
+		return this.emitter;
+	}
+
+	@Override
+	public Mesh build() {
+		return null;
+	}
+
+	/**
+	 * The only material of the stub renderer, which is also its own finder as every material is the same.
+	 */
+	private static final class Material implements MaterialFinder, RenderMaterial {
+		@Override
+		public MaterialFinder blendMode(BlendMode blendMode) {
+			return this;
+		}
+
+		@Override
+		public MaterialFinder disableColorIndex(boolean disable) {
+			return this;
+		}
+
+		@Override
+		public MaterialFinder emissive(boolean isEmissive) {
+			return this;
+		}
+
+		@Override
+		public MaterialFinder disableDiffuse(boolean disable) {
+			return this;
+		}
+
+		@Override
+		public MaterialFinder ambientOcclusion(TriState mode) {
+			return this;
+		}
+
+		@Override
+		public MaterialFinder glint(TriState mode) {
+			return this;
+		}
+
+		@Override
+		public MaterialFinder copyFrom(MaterialView material) {
+			return this;
+		}
+
+		@Override
+		public MaterialFinder clear() {
+			return this;
+		}
+
+		@Override
+		public RenderMaterial find() {
+			return this;
+		}
+
+		@Override
+		public BlendMode blendMode() {
+			return BlendMode.DEFAULT;
+		}
+
+		@Override
+		public boolean disableColorIndex() {
+			return false;
+		}
+
+		@Override
+		public boolean emissive() {
+			return false;
+		}
+
+		@Override
+		public boolean disableDiffuse() {
+			return false;
+		}
+
+		@Override
+		public TriState ambientOcclusion() {
+			return TriState.DEFAULT;
+		}
+
+		@Override
+		public TriState glint() {
+			return TriState.DEFAULT;
+		}
+	}
+
+	/**
+	 * The quad emitter of the stub renderer, which ignores the quad data and only counts the emitted quads.
+	 */
+	private final class Emitter implements QuadEmitter {
+		private final Vector3f faceNormal = new Vector3f();
+		private @Nullable Direction cullFace;
+		private @Nullable Direction nominalFace;
+		private RenderMaterial material = StubRenderer.this.material;
+
+		/* Mutation */
+
+		@Override
+		public QuadEmitter pos(int vertexIndex, float x, float y, float z) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter color(int vertexIndex, int color) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter uv(int vertexIndex, float u, float v) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter spriteBake(Sprite sprite, int bakeFlags) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter lightmap(int vertexIndex, int lightmap) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter normal(int vertexIndex, float x, float y, float z) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter cullFace(@Nullable Direction face) {
+			this.cullFace = face;
+			return this;
+		}
+
+		@Override
+		public QuadEmitter nominalFace(@Nullable Direction face) {
+			this.nominalFace = face;
+			return this;
+		}
+
+		@Override
+		public QuadEmitter material(RenderMaterial material) {
+			this.material = material;
+			return this;
+		}
+
+		@Override
+		public QuadEmitter colorIndex(int colorIndex) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter tag(int tag) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter copyFrom(QuadView quad) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter fromVanilla(int[] quadData, int startIndex) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter fromVanilla(BakedQuad quad, RenderMaterial material, @Nullable Direction cullFace) {
+			return this;
+		}
+
+		@Override
+		public QuadEmitter emit() {
+			StubRenderer.this.emitted++;
+			this.cullFace = null;
+			this.nominalFace = null;
+			this.material = StubRenderer.this.material;
+			return this;
+		}
+
+		/* View */
+
+		@Override
+		public float x(int vertexIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public float y(int vertexIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public float z(int vertexIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public float posByIndex(int vertexIndex, int coordinateIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public Vector3f copyPos(int vertexIndex, @Nullable Vector3f target) {
+			return target == null ? new Vector3f() : target.zero();
+		}
+
+		@Override
+		public int color(int vertexIndex) {
+			return 0;
+		}
+
+		@Override
+		public float u(int vertexIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public float v(int vertexIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public Vector2f copyUv(int vertexIndex, @Nullable Vector2f target) {
+			return target == null ? new Vector2f() : target.zero();
+		}
+
+		@Override
+		public int lightmap(int vertexIndex) {
+			return 0;
+		}
+
+		@Override
+		public boolean hasNormal(int vertexIndex) {
+			return false;
+		}
+
+		@Override
+		public float normalX(int vertexIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public float normalY(int vertexIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public float normalZ(int vertexIndex) {
+			return 0.f;
+		}
+
+		@Override
+		public @Nullable Vector3f copyNormal(int vertexIndex, @Nullable Vector3f target) {
+			return null;
+		}
+
+		@Override
+		public @Nullable Direction cullFace() {
+			return this.cullFace;
+		}
+
+		@Override
+		public Direction lightFace() {
+			return this.nominalFace == null ? Direction.UP : this.nominalFace;
+		}
+
+		@Override
+		public @Nullable Direction nominalFace() {
+			return this.nominalFace;
+		}
+
+		@Override
+		public Vector3f faceNormal() {
+			return this.faceNormal;
+		}
+
+		@Override
+		public RenderMaterial material() {
+			return this.material;
+		}
+
+		@Override
+		public int colorIndex() {
+			return -1;
+		}
+
+		@Override
+		public int tag() {
+			return 0;
+		}
+
+		@Override
+		public void toVanilla(int[] target, int targetIndex) {
+		}
+	}
+}
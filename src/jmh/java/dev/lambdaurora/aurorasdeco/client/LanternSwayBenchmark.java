@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client;
+
+import dev.lambdaurora.aurorasdeco.block.entity.LanternBlockEntity;
+import dev.lambdaurora.aurorasdeco.world.WindField;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating the natural swaying of 10,000 lanterns against the shared wind snapshot
+ * with evaluating it for each lantern from its position and the world time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LanternSwayBenchmark {
+	private static final int LANTERNS = 10_000;
+
+	private final BlockPos[] positions = new BlockPos[LANTERNS];
+	private final int[] phases = new int[LANTERNS];
+	private final float[] angles = new float[LANTERNS];
+	private WindField.Grid grid;
+	private long time;
+
+	@Setup
+	public void setup() {
+		var random = new Random(42);
+		for (int i = 0; i < LANTERNS; i++) {
+			this.positions[i] = new BlockPos(random.nextInt(512) - 256, random.nextInt(128), random.nextInt(512) - 256);
+			this.phases[i] = LanternBlockEntity.getNaturalSwayPhase(this.positions[i]);
+		}
+
+		this.grid = new WindField(Wind.WIND_SEED).tick(0, 0, 0);
+	}
+
+	private Wind.Snapshot nextSnapshot() {
+		long time = this.time++;
+		return Wind.Snapshot.of(time, this.grid, WindField.State.WINDY);
+	}
+
+	@Benchmark
+	public void batched(Blackhole blackhole) {
+		this.nextSnapshot().computeLanternSwayingAngles(this.phases, this.angles, LANTERNS);
+		blackhole.consume(this.angles);
+	}
+
+	@Benchmark
+	public void snapshotLookup(Blackhole blackhole) {
+		var wind = this.nextSnapshot();
+
+		for (int i = 0; i < LANTERNS; i++) {
+			blackhole.consume(wind.getLanternSwayingAngle(this.phases[i]));
+		}
+	}
+
+	@Benchmark
+	public void perLantern(Blackhole blackhole) {
+		long time = this.time++;
+
+		for (var pos : this.positions) {
+			// The evaluation done by each lantern before the wind snapshot.
+			int period = LanternBlockEntity.NATURAL_SWAY_PERIOD;
+			float n = ((float) Math.floorMod(pos.getX() * 7L + pos.getY() * 9L + pos.getZ() * 13L + time, (long) period))
+					/ period;
+			blackhole.consume((float) ((.01f * MathHelper.cos((float) (Math.PI * 2 * n))) * Math.PI));
+		}
+	}
+}
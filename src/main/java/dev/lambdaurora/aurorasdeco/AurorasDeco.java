@@ -19,13 +19,18 @@ package dev.lambdaurora.aurorasdeco;
 
 import com.mojang.logging.LogUtils;
 import dev.lambdaurora.aurorasdeco.blackboard.BlackboardColor;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImageStore;
 import dev.lambdaurora.aurorasdeco.block.big_flower_pot.BigPottedCactusBlock;
+import dev.lambdaurora.aurorasdeco.block.entity.BasicBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.SlotSync;
 import dev.lambdaurora.aurorasdeco.block.big_flower_pot.PottedPlantType;
 import dev.lambdaurora.aurorasdeco.item.group.ItemTree;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import dev.lambdaurora.aurorasdeco.resource.AurorasDecoPack;
 import dev.lambdaurora.aurorasdeco.util.AuroraUtil;
+import dev.lambdaurora.aurorasdeco.world.ServerWindFields;
 import dev.lambdaurora.aurorasdeco.world.gen.DynamicWorldGen;
 import net.minecraft.block.Blocks;
 import net.minecraft.item.Item;
@@ -39,6 +44,10 @@ import org.quiltmc.loader.api.ModContainer;
 import org.quiltmc.loader.api.QuiltLoader;
 import org.quiltmc.qsl.base.api.entrypoint.ModInitializer;
 import org.quiltmc.qsl.base.api.util.TriState;
+import org.quiltmc.qsl.lifecycle.api.event.ServerLifecycleEvents;
+import org.quiltmc.qsl.lifecycle.api.event.ServerTickEvents;
+import org.quiltmc.qsl.lifecycle.api.event.ServerWorldTickEvents;
+import org.quiltmc.qsl.networking.api.ServerPlayConnectionEvents;
 import org.quiltmc.qsl.networking.api.ServerPlayNetworking;
 import org.quiltmc.qsl.registry.api.event.RegistryMonitor;
 import org.quiltmc.qsl.resource.loader.api.ResourceLoader;
@@ -83,6 +92,20 @@ public class AurorasDeco implements ModInitializer {
 		ServerPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.SIGN_POST_OPEN_GUI_FAIL, AurorasDecoPackets::handleSignPostOpenGuiFailPacket);
 		ServerPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.SIGN_POST_SET_TEXT, AurorasDecoPackets::handleSignPostSetTextPacket);
 		ServerPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.PAINTER_PALETTE_SCROLL, AurorasDecoPackets::handlePainterPaletteScroll);
+		ServerPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.BLACKBOARD_IMAGE_REQUEST, AurorasDecoPackets::handleBlackboardImageRequestPacket);
+
+		ServerPlayConnectionEvents.JOIN.register(ServerWindFields::onPlayReady);
+
+		ServerTickEvents.END.register(server -> {
+			BasicBlockEntity.flushPendingUpdates();
+			SlotSync.flushPendingSyncs();
+			BlackboardBlockEntity.flushPendingSyncs();
+		});
+		ServerWorldTickEvents.END.register(ServerWindFields::tick);
+		ServerLifecycleEvents.STOPPED.register(server -> {
+			BlackboardImageStore.get().clear();
+			ServerWindFields.clear();
+		});
 
 		DynamicWorldGen.init();
 
@@ -18,11 +18,13 @@
 package dev.lambdaurora.aurorasdeco.blackboard;
 
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import net.fabricmc.fabric.api.renderer.v1.Renderer;
 import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.MutableQuadView;
 import net.fabricmc.fabric.api.util.TriState;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.Sprite;
 import net.minecraft.feature_flags.FeatureFlagBitSet;
 import net.minecraft.item.Item;
 import net.minecraft.item.Items;
@@ -49,20 +51,95 @@ import java.util.List;
 public class Blackboard implements BlackboardHandler {
 	private static final Identifier WHITE_SPRITE_ID = AurorasDeco.id("special/white");
 
-	private final short[] pixels = new short[256];
+	private short[] pixels = new short[256];
+	/**
+	 * The image whose pixels are shared by this blackboard until it is modified, if any.
+	 */
+	private @Nullable BlackboardImage sharedImage;
+	/**
+	 * The snapshot of the current drawing, kept until this blackboard is modified.
+	 */
+	private @Nullable BlackboardImage image;
+	private final BlackboardMask changes = new BlackboardMask();
 	private boolean lit;
 
 	public Blackboard() {}
 
 	/**
-	 * Gets the pixels of the blackboard.
+	 * Gets the pixels of the blackboard, which may be modified.
+	 * <p>
+	 * The returned array must not be kept around, as {@linkplain BlackboardImage#of(Blackboard) snapshots} taken later
+	 * would not see its modifications.
 	 *
 	 * @return the pixels
 	 */
 	public short[] getPixels() {
+		return this.getOwnedPixels();
+	}
+
+	/**
+	 * Gets the pixels of the blackboard, which is not sharing them with an image anymore.
+	 *
+	 * @return the pixels
+	 */
+	private short[] getOwnedPixels() {
+		// The pixels are about to be modified.
+		this.image = null;
+
+		if (this.sharedImage != null) {
+			this.pixels = this.pixels.clone();
+			this.sharedImage = null;
+		}
+
 		return this.pixels;
 	}
 
+	/**
+	 * Makes this blackboard use the pixels of the given image, which are shared until this blackboard is modified.
+	 * <p>
+	 * Pixels which differ are recorded in the {@linkplain #getChanges() changes}.
+	 *
+	 * @param image the image
+	 */
+	public void share(BlackboardImage image) {
+		if (this.sharedImage != image) {
+			var pixels = image.getSharedPixels();
+
+			for (int i = 0; i < pixels.length; i++) {
+				if (this.pixels[i] != pixels[i])
+					this.changes.set(i);
+			}
+
+			this.pixels = pixels;
+			this.sharedImage = image;
+			this.image = null;
+		}
+
+		this.setLit(image.isLit());
+	}
+
+	/**
+	 * {@return the snapshot of the current drawing}
+	 * <p>
+	 * The snapshot is kept until this blackboard is modified, so looking it up again does not copy nor hash the pixels.
+	 *
+	 * @see BlackboardImage#of(Blackboard)
+	 */
+	BlackboardImage getImage() {
+		boolean lit = this.isLit();
+
+		if (this.image == null) {
+			this.image = this.sharedImage != null
+					? this.sharedImage.withLit(lit) // The shared pixels are immutable, no need to copy them.
+					: BlackboardImage.copyOf(this.pixels, lit);
+		} else if (this.image.isLit() != lit) {
+			// Only the lit state has changed since the snapshot.
+			this.image = this.image.withLit(lit);
+		}
+
+		return this.image;
+	}
+
 	@Override
 	public short getPixel(int x, int y) {
 		return this.pixels[y * 16 + x];
@@ -79,7 +156,8 @@ public class Blackboard implements BlackboardHandler {
 
 		short id = (short) color;
 		if (this.pixels[y * 16 + x] != id) {
-			this.pixels[y * 16 + x] = id;
+			this.getOwnedPixels()[y * 16 + x] = id;
+			this.changes.set(x, y);
 			return true;
 		}
 		return false;
@@ -87,98 +165,37 @@ public class Blackboard implements BlackboardHandler {
 
 	@Override
 	public boolean brush(int x, int y, int color) {
-		short id = (short) color;
-
-		x = x - 1;
-		y = y - 1;
-		for (int i = 0; i < 3; i++) {
-			for (int j = 0; j < 3; j++) {
-				if (x < 16 && x >= 0 && y < 16 && y >= 0)
-					this.pixels[y * 16 + x] = id;
-				x++;
-			}
-			x = x - 3;
-			y++;
-		}
+		BlackboardRaster.paint(this.getOwnedPixels(), BlackboardRaster.brushMask(x, y), (short) color, this.changes);
 		return true;
 	}
 
 	@Override
 	public boolean replace(int x, int y, int color) {
-		short id = this.getPixel(x, y);
-		short repl = (short) color;
-
-		for (int i = 0; i < this.pixels.length; i++) {
-			if (this.pixels[i] == id) {
-				this.pixels[i] = repl;
-			}
-		}
+		BlackboardRaster.replace(this.getOwnedPixels(), x, y, (short) color, this.changes);
 		return true;
 	}
 
 	@Override
 	public boolean line(int x1, int y1, int x2, int y2, BlackboardDrawModifier modifier) {
-		int d = 0;
-
-		int dx = Math.abs(x2 - x1);
-		int dy = Math.abs(y2 - y1);
-
-		int dx2 = 2 * dx;
-		int dy2 = 2 * dy;
-
-		int ix = x1 < x2 ? 1 : -1; // increment direction
-		int iy = y1 < y2 ? 1 : -1;
-
-		int x = x1;
-		int y = y1;
-
-		if (dx >= dy) {
-			while (true) {
-				this.pixels[y * 16 + x] = modifier.apply(this.getPixel(x, y));
-				if (x == x2)
-					break;
-				x += ix;
-				d += dy2;
-				if (d > dx) {
-					y += iy;
-					d -= dx2;
-				}
-			}
-		} else {
-			while (true) {
-				this.pixels[y * 16 + x] = modifier.apply(this.getPixel(x, y));
-				if (y == y2)
-					break;
-				y += iy;
-				d += dx2;
-				if (d > dy) {
-					x += ix;
-					d -= dy2;
-				}
-			}
-		}
+		BlackboardRaster.modify(this.getOwnedPixels(), BlackboardRaster.lineMask(x1, y1, x2, y2), modifier, this.changes);
 		return true;
 	}
 
 	@Override
 	public boolean fill(int x, int y, int color) {
-		int replacement = (short) color;
-		int target = this.getPixel(x, y);
-		if (target != replacement) {
-			this.flood(x, y, target, replacement);
-		}
+		BlackboardRaster.fill(this.getOwnedPixels(), x, y, (short) color, this.changes);
 		return true;
 	}
 
-	private void flood(int x, int y, int target, int replacement) {
-		short pixel = this.getPixel(x, y);
-		if (pixel == target) {
-			this.pixels[y * 16 + x] = (short) replacement;
-			this.flood((x <= 0 ? x : x - 1), y, target, replacement);
-			this.flood((x >= 15 ? x : x + 1), y, target, replacement);
-			this.flood(x, (y <= 0 ? y : y - 1), target, replacement);
-			this.flood(x, (y >= 15 ? y : y + 1), target, replacement);
-		}
+	/**
+	 * Gets the pixels which have changed since the changes were last cleared.
+	 * <p>
+	 * The returned mask is live, consumers are expected to {@linkplain BlackboardMask#clear() clear} it once handled.
+	 *
+	 * @return the changed pixels
+	 */
+	public BlackboardMask getChanges() {
+		return this.changes;
 	}
 
 	/**
@@ -187,7 +204,11 @@ public class Blackboard implements BlackboardHandler {
 	 * @param source the blackboard to copy
 	 */
 	public void copy(Blackboard source) {
-		System.arraycopy(source.pixels, 0, this.pixels, 0, this.pixels.length);
+		if (source.sharedImage != null) {
+			this.share(source.sharedImage);
+		} else {
+			BlackboardRaster.copy(source.pixels, this.getOwnedPixels(), this.changes);
+		}
 		this.setLit(source.isLit());
 	}
 
@@ -195,7 +216,7 @@ public class Blackboard implements BlackboardHandler {
 	 * Clears the blackboard.
 	 */
 	public void clear() {
-		Arrays.fill(this.pixels, (short) 0);
+		BlackboardRaster.paint(this.getOwnedPixels(), BlackboardMask.full(), (short) 0, this.changes);
 	}
 
 	/**
@@ -225,38 +246,52 @@ public class Blackboard implements BlackboardHandler {
 	public Mesh buildMesh(Direction facing, int light) {
 		var sprite = MinecraftClient.getInstance().getSpriteAtlas(PlayerScreenHandler.BLOCK_ATLAS_TEXTURE).apply(WHITE_SPRITE_ID);
 
-		var meshBuilder = RendererAccess.INSTANCE.getRenderer().meshBuilder();
+		return this.buildMesh(RendererAccess.INSTANCE.getRenderer(), sprite, facing, light);
+	}
+
+	/**
+	 * Builds the mesh of this blackboard using the given renderer.
+	 *
+	 * @param renderer the renderer
+	 * @param sprite the sprite to use for the pixels
+	 * @param facing the facing of the blackboard
+	 * @param light the light of the pixels, or {@code 0} to use the world light
+	 * @return the built mesh
+	 */
+	@ClientOnly
+	public Mesh buildMesh(Renderer renderer, Sprite sprite, Direction facing, int light) {
+		var meshBuilder = renderer.meshBuilder();
 		var emitter = meshBuilder.getEmitter();
 
 		var lit = light != 0;
 
-		var material = RendererAccess.INSTANCE.getRenderer().materialFinder()
+		// Ambient occlusion is computed at the quad corners, it would be interpolated differently over merged pixels.
+		var material = renderer.materialFinder()
 				.disableDiffuse(lit)
-				.ambientOcclusion(lit ? TriState.FALSE : TriState.DEFAULT)
+				.ambientOcclusion(TriState.FALSE)
 				.find();
-		for (int y = 0; y < 16; y++) {
-			for (int x = 0; x < 16; x++) {
-				int color = this.getColor(x, y);
-				if (color != 0) {
-					{
-						int red = color & 255;
-						int green = (color >> 8) & 255;
-						int blue = (color >> 16) & 255;
-						color = 0xff000000 | (red << 16) | (green << 8) | blue;
-					}
-
-					int squareY = 15 - y;
-					emitter.square(facing, x / 16.f, squareY / 16.f,
-									(x + 1) / 16.f, (squareY + 1) / 16.f, 0.928f)
-							.spriteBake(sprite, MutableQuadView.BAKE_LOCK_UV)
-							.color(color, color, color, color)
-							.material(material);
-					if (light != 0)
-						emitter.lightmap(light, light, light, light);
-					emitter.emit();
-				}
+		var colors = BlackboardColor.getRenderTable();
+		BlackboardMesher.mesh(this.pixels, (x, y, width, height, rawColor) -> {
+			int color = colors[rawColor & 0xffff];
+			if (color == 0) return;
+
+			{
+				int red = color & 255;
+				int green = (color >> 8) & 255;
+				int blue = (color >> 16) & 255;
+				color = 0xff000000 | (red << 16) | (green << 8) | blue;
 			}
-		}
+
+			int bottom = 16 - (y + height);
+			emitter.square(facing, x / 16.f, bottom / 16.f,
+							(x + width) / 16.f, (bottom + height) / 16.f, 0.928f)
+					.spriteBake(sprite, MutableQuadView.BAKE_LOCK_UV)
+					.color(color, color, color, color)
+					.material(material);
+			if (light != 0)
+				emitter.lightmap(light, light, light, light);
+			emitter.emit();
+		});
 
 		return meshBuilder.build();
 	}
@@ -265,55 +300,35 @@ public class Blackboard implements BlackboardHandler {
 
 	public void readNbt(NbtCompound nbt) {
 		byte[] pixels = nbt.getByteArray("pixels");
+		short[] board = this.getOwnedPixels();
 
 		if (!nbt.contains("version", NbtElement.INT_TYPE)) {
 			convert01(pixels);
+			decode2(convert02(pixels), board);
 		} else {
 			switch (nbt.getInt("version")) {
-				case 1 -> pixels = convert02(pixels);
-				default -> {
-				}
+				case 1 -> decode2(convert02(pixels), board);
+				case 3 -> decode3(pixels, board);
+				default -> decode2(pixels, board);
 			}
 		}
 
-		int boardIndex = 0;
-		for (int i = 0; i < pixels.length; i++) {
-			if (pixels[i] == 0) {
-				this.pixels[boardIndex] = 0;
-			} else {
-				this.pixels[boardIndex] = (short) (pixels[i] << 8 | pixels[++i] & 0xff);
-			}
-
-			boardIndex++;
-			if (boardIndex >= this.pixels.length) break;
-		}
-
 		this.lit = nbt.getBoolean("lit");
 	}
 
 	public NbtCompound writeNbt(NbtCompound nbt) {
 		if (!this.isEmpty()) {
-			int length = 0;
-			for (short pixel : this.pixels) {
-				if (pixel == 0) length++;
-				else length += 2;
-			}
+			byte[] pixels = encode3(this.pixels);
 
-			var pixels = new byte[length];
-
-			int rawIndex = 0;
-			for (short pixel : this.pixels) {
-				if (pixel == 0) {
-					pixels[rawIndex++] = 0;
-				} else {
-					pixels[rawIndex] = (byte) (pixel >> 8);
-					pixels[rawIndex + 1] = (byte) (pixel & 0xff);
-					rawIndex += 2;
-				}
+			// Very noisy drawings are smaller in the version 2 format, if they can be represented in it.
+			int length2 = getEncodedLength2(this.pixels);
+			if (length2 != -1 && length2 < pixels.length) {
+				nbt.putInt("version", 2);
+				nbt.putByteArray("pixels", encode2(this.pixels, length2));
+			} else {
+				nbt.putInt("version", 3);
+				nbt.putByteArray("pixels", pixels);
 			}
-
-			nbt.putInt("version", 2);
-			nbt.putByteArray("pixels", pixels);
 			nbt.putBoolean("lit", this.isLit());
 		} else if (this.isLit()) {
 			nbt.putBoolean("lit", true);
@@ -367,6 +382,153 @@ public class Blackboard implements BlackboardHandler {
 		return converted;
 	}
 
+	/**
+	 * {@return the length of the given pixels encoded in the version 2 format, or {@code -1} if they cannot be represented in it}
+	 * <p>
+	 * The version 2 format encodes empty pixels as a single {@code 0} byte,
+	 * and other pixels as their two bytes, high byte first.
+	 * Pixels with a non-zero low byte and a {@code 0} high byte cannot be represented.
+	 *
+	 * @param pixels the pixels
+	 */
+	private static int getEncodedLength2(short[] pixels) {
+		int length = 0;
+
+		for (short pixel : pixels) {
+			if (pixel == 0) {
+				length++;
+			} else if ((pixel & 0xff00) == 0) {
+				return -1;
+			} else {
+				length += 2;
+			}
+		}
+
+		return length;
+	}
+
+	private static byte[] encode2(short[] pixels, int length) {
+		var data = new byte[length];
+
+		int rawIndex = 0;
+		for (short pixel : pixels) {
+			if (pixel == 0) {
+				data[rawIndex++] = 0;
+			} else {
+				data[rawIndex] = (byte) (pixel >> 8);
+				data[rawIndex + 1] = (byte) (pixel & 0xff);
+				rawIndex += 2;
+			}
+		}
+
+		return data;
+	}
+
+	private static void decode2(byte[] data, short[] pixels) {
+		Arrays.fill(pixels, (short) 0);
+
+		int boardIndex = 0;
+		for (int i = 0; i < data.length && boardIndex < pixels.length; i++) {
+			if (data[i] == 0 || i + 1 == data.length) {
+				pixels[boardIndex] = 0;
+			} else {
+				pixels[boardIndex] = (short) (data[i] << 8 | data[++i] & 0xff);
+			}
+
+			boardIndex++;
+		}
+	}
+
+	/**
+	 * Encodes the given pixels in the version 3 format.
+	 * <p>
+	 * The version 3 format is made of a palette of the distinct raw colors of the drawing,
+	 * followed by the pixels as runs of a same palette index:
+	 * <ul>
+	 *     <li>the size of the palette minus one, as an unsigned byte;</li>
+	 *     <li>the raw colors of the palette, two bytes each, high byte first;</li>
+	 *     <li>the runs, each made of the palette index and the length of the run minus one, as unsigned bytes.</li>
+	 * </ul>
+	 *
+	 * @param pixels the pixels
+	 * @return the encoded pixels
+	 */
+	static byte[] encode3(short[] pixels) {
+		var palette = new short[pixels.length];
+		var indices = new byte[pixels.length];
+		int paletteSize = 0;
+		int runs = 0;
+
+		for (int i = 0; i < pixels.length; i++) {
+			short pixel = pixels[i];
+
+			if (i != 0 && pixels[i - 1] == pixel) {
+				indices[i] = indices[i - 1];
+				continue;
+			}
+
+			runs++;
+
+			int index = 0;
+			while (index < paletteSize && palette[index] != pixel) {
+				index++;
+			}
+
+			if (index == paletteSize) {
+				palette[paletteSize++] = pixel;
+			}
+
+			indices[i] = (byte) index;
+		}
+
+		var data = new byte[1 + paletteSize * 2 + runs * 2];
+		data[0] = (byte) (paletteSize - 1);
+
+		int rawIndex = 1;
+		for (int i = 0; i < paletteSize; i++) {
+			data[rawIndex++] = (byte) (palette[i] >> 8);
+			data[rawIndex++] = (byte) (palette[i] & 0xff);
+		}
+
+		int runStart = 0;
+		for (int i = 1; i <= pixels.length; i++) {
+			if (i == pixels.length || pixels[i] != pixels[runStart]) {
+				data[rawIndex++] = indices[runStart];
+				data[rawIndex++] = (byte) (i - runStart - 1);
+				runStart = i;
+			}
+		}
+
+		return data;
+	}
+
+	static void decode3(byte[] data, short[] pixels) {
+		Arrays.fill(pixels, (short) 0);
+
+		if (data.length == 0) return;
+
+		int paletteSize = (data[0] & 0xff) + 1;
+		int rawIndex = 1;
+
+		var palette = new short[paletteSize];
+		for (int i = 0; i < paletteSize && rawIndex + 1 < data.length; i++) {
+			palette[i] = (short) (data[rawIndex] << 8 | data[rawIndex + 1] & 0xff);
+			rawIndex += 2;
+		}
+
+		int boardIndex = 0;
+		while (rawIndex + 1 < data.length && boardIndex < pixels.length) {
+			int index = data[rawIndex] & 0xff;
+			int length = (data[rawIndex + 1] & 0xff) + 1;
+			rawIndex += 2;
+
+			short pixel = index < paletteSize ? palette[index] : 0;
+			for (int i = 0; i < length && boardIndex < pixels.length; i++) {
+				pixels[boardIndex++] = pixel;
+			}
+		}
+	}
+
 	public enum DrawAction {
 		DEFAULT("aurorasdeco.blackboard.tool.pixel") {
 			@Override
@@ -17,7 +17,7 @@
 
 package dev.lambdaurora.aurorasdeco.blackboard;
 
-import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPlants;
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
@@ -45,6 +45,12 @@ import java.util.Collections;
 public class BlackboardColor extends BlackboardDrawModifier {
 	private static final Int2ObjectMap<BlackboardColor> COLORS = new Int2ObjectOpenHashMap<>();
 	private static final Object2ObjectMap<Item, BlackboardColor> ITEM_TO_COLOR = new Object2ObjectOpenHashMap<>();
+	/**
+	 * The render colors of every raw color, indexed by the unsigned raw color.
+	 * <p>
+	 * Reset whenever a color is registered, and lazily rebuilt on the next lookup.
+	 */
+	private static volatile int @Nullable [] renderTable;
 
 	/**
 	 * The color identifier mask ({@value}) for the raw color format.
@@ -66,19 +72,30 @@ public class BlackboardColor extends BlackboardDrawModifier {
 	public static final byte FREE_COLOR_SPACE = (byte) (DyeColor.values().length + 1);
 	public static final BlackboardColor SWEET_BERRIES = new BlackboardColor(FREE_COLOR_SPACE, 0xffbb0000, Items.SWEET_BERRIES);
 	public static final BlackboardColor GLOW_BERRIES = new BlackboardColor(FREE_COLOR_SPACE + 1, 0xffff9737, Items.GLOW_BERRIES);
-	public static final BlackboardColor LAVENDER = new BlackboardColor(FREE_COLOR_SPACE + 3, 0xffb886db, AurorasDecoPlants.LAVENDER.item());
+	/**
+	 * The lavender color, bound to the lavender item once it is registered.
+	 */
+	public static final BlackboardColor LAVENDER = new BlackboardColor(FREE_COLOR_SPACE + 3, 0xffb886db, null);
 
 	public static final int BLUEBERRIES_COLOR = 0xff006ac6;
 
 	private final byte id;
-	private final Item item;
+	private @Nullable Item item;
 
-	private BlackboardColor(int id, int color, Item item) {
+	private BlackboardColor(int id, int color, @Nullable Item item) {
 		super("", color);
 		this.id = (byte) id;
-		this.item = item;
 
 		COLORS.put(id, this);
+		renderTable = null;
+
+		if (item != null) {
+			this.bindItem(item);
+		}
+	}
+
+	private void bindItem(Item item) {
+		this.item = item;
 		ITEM_TO_COLOR.put(item, this);
 	}
 
@@ -132,7 +149,7 @@ public class BlackboardColor extends BlackboardDrawModifier {
 		return id;
 	}
 
-	public Item getItem() {
+	public @Nullable Item getItem() {
 		return this.item;
 	}
 
@@ -168,7 +185,39 @@ public class BlackboardColor extends BlackboardDrawModifier {
 	 * @param color the raw color format
 	 */
 	public static int getRenderColor(int color) {
-		return fromRaw(color).getRenderColor(getShadeFromRaw(color), getSaturationFromRaw(color));
+		return getRenderTable()[color & 0xffff];
+	}
+
+	/**
+	 * {@return the render colors in the ABGR format of every raw color, indexed by the unsigned raw color}
+	 * <p>
+	 * The returned table must not be modified, and is replaced if a color is registered later.
+	 */
+	public static int[] getRenderTable() {
+		var table = renderTable;
+
+		if (table == null) {
+			table = buildRenderTable();
+			renderTable = table;
+		}
+
+		return table;
+	}
+
+	private static int[] buildRenderTable() {
+		var table = new int[1 << 16];
+
+		for (int id = 0; id < 256; id++) {
+			var color = byId(id);
+			if (color == EMPTY)
+				continue;
+
+			for (int metadata = 0; metadata < 256; metadata++) {
+				table[id << 8 | metadata] = color.getRenderColor(getShadeFromRaw(metadata), getSaturationFromRaw(metadata));
+			}
+		}
+
+		return table;
 	}
 
 	public static int getShadeFromRaw(int color) {
@@ -232,6 +281,8 @@ public class BlackboardColor extends BlackboardDrawModifier {
 			fromDye(dyeItem);
 		} else if (id.getNamespace().equals("ecotones") && id.getPath().equals("blueberries")) {
 			new BlackboardColor(FREE_COLOR_SPACE + 2, BLUEBERRIES_COLOR, item);
+		} else if (id.getNamespace().equals(AurorasDeco.NAMESPACE) && id.getPath().equals("lavender")) {
+			LAVENDER.bindItem(item);
 		}
 	}
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.PacketByteBuf;
+
+import java.util.Arrays;
+
+/**
+ * Represents an immutable snapshot of a blackboard drawing.
+ * <p>
+ * Unlike {@link Blackboard}, two images with the same pixels and lit state are equal,
+ * which makes images suitable as keys for content-addressed caches.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BlackboardImage {
+	public static final BlackboardImage EMPTY = new BlackboardImage(new short[256], false);
+
+	private final short[] pixels;
+	private final boolean lit;
+	private final int hash;
+
+	private BlackboardImage(short[] pixels, boolean lit) {
+		this.pixels = pixels;
+		this.lit = lit;
+		this.hash = 31 * Arrays.hashCode(pixels) + Boolean.hashCode(lit);
+	}
+
+	/**
+	 * Creates a snapshot of the given blackboard.
+	 * <p>
+	 * The snapshot is cached by the blackboard until it is modified.
+	 *
+	 * @param blackboard the blackboard
+	 * @return the snapshot of the blackboard
+	 */
+	public static BlackboardImage of(Blackboard blackboard) {
+		return blackboard.getImage();
+	}
+
+	/**
+	 * Creates an image from a copy of the given pixels.
+	 *
+	 * @param pixels the pixels
+	 * @param lit {@code true} if the image is lit, or {@code false} otherwise
+	 * @return the image
+	 */
+	static BlackboardImage copyOf(short[] pixels, boolean lit) {
+		return new BlackboardImage(pixels.clone(), lit);
+	}
+
+	/**
+	 * Reads a snapshot from the given blackboard NBT.
+	 *
+	 * @param nbt the blackboard NBT
+	 * @return the snapshot
+	 */
+	public static BlackboardImage fromNbt(NbtCompound nbt) {
+		var blackboard = Blackboard.fromNbt(nbt);
+		// The blackboard is discarded right after, no need to copy its pixels.
+		return new BlackboardImage(blackboard.getPixels(), blackboard.isLit());
+	}
+
+	/**
+	 * {@return the pixels of this image, which must not be modified}
+	 */
+	short[] getSharedPixels() {
+		return this.pixels;
+	}
+
+	public short getPixel(int x, int y) {
+		return this.pixels[y * 16 + x];
+	}
+
+	/**
+	 * {@return the render color in the ABGR format of the pixel at the given coordinates}
+	 *
+	 * @param x the X coordinate
+	 * @param y the Y coordinate
+	 */
+	public int getColor(int x, int y) {
+		return BlackboardColor.getRenderColor(this.getPixel(x, y));
+	}
+
+	public boolean isLit() {
+		return this.lit;
+	}
+
+	/**
+	 * {@return this image with the given lit state, sharing the same pixels}
+	 *
+	 * @param lit {@code true} if the image is lit, or {@code false} otherwise
+	 */
+	BlackboardImage withLit(boolean lit) {
+		return this.lit == lit ? this : new BlackboardImage(this.pixels, lit);
+	}
+
+	/**
+	 * Returns whether this image is empty or not.
+	 *
+	 * @return {@code true} if empty, or {@code false} otherwise
+	 */
+	public boolean isEmpty() {
+		for (short pixel : this.pixels) {
+			if (pixel != 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Copies this image into the given blackboard.
+	 * <p>
+	 * The pixels are shared with the blackboard until it is modified.
+	 *
+	 * @param blackboard the destination blackboard
+	 */
+	public void copyTo(Blackboard blackboard) {
+		blackboard.share(this);
+	}
+
+	/**
+	 * {@return a new mutable blackboard holding this image}
+	 */
+	public Blackboard toBlackboard() {
+		var blackboard = new Blackboard();
+		this.copyTo(blackboard);
+		return blackboard;
+	}
+
+	/* Serialization */
+
+	public void write(PacketByteBuf buf) {
+		buf.writeByteArray(Blackboard.encode3(this.pixels));
+		buf.writeBoolean(this.lit);
+	}
+
+	public static BlackboardImage read(PacketByteBuf buf) {
+		var pixels = new short[256];
+		// The encoded pixels take at most a palette of 256 colors and 256 runs.
+		Blackboard.decode3(buf.readByteArray(1 + 256 * 2 + 256 * 2), pixels);
+		return new BlackboardImage(pixels, buf.readBoolean());
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof BlackboardImage that)) return false;
+		return this.hash == that.hash && this.lit == that.lit && Arrays.equals(this.pixels, that.pixels);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a store of interned blackboard images, shared by all the blackboards of a server which hold the same drawing.
+ * <p>
+ * Each stored image is given an identifier, which is never reused while the server runs,
+ * and is reference-counted so that it is forgotten once no blackboard holds it anymore.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BlackboardImageStore {
+	private static final BlackboardImageStore INSTANCE = new BlackboardImageStore();
+
+	private final Object2ObjectMap<BlackboardImage, Entry> entries = new Object2ObjectOpenHashMap<>();
+	private final Int2ObjectMap<Entry> entriesById = new Int2ObjectOpenHashMap<>();
+	private int nextId = 1;
+
+	private BlackboardImageStore() {}
+
+	/**
+	 * {@return the image store of the server}
+	 */
+	public static BlackboardImageStore get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Acquires the stored entry of the given image, storing it if needed.
+	 * <p>
+	 * The entry must be {@linkplain #release(Entry) released} once it is not held anymore.
+	 *
+	 * @param image the image
+	 * @return the stored entry of the image
+	 */
+	public synchronized Entry acquire(BlackboardImage image) {
+		var entry = this.entries.get(image);
+
+		if (entry == null) {
+			entry = new Entry(this.nextId++, image);
+			this.entries.put(image, entry);
+			this.entriesById.put(entry.id, entry);
+		}
+
+		entry.references++;
+		return entry;
+	}
+
+	/**
+	 * Releases the given entry, the image is forgotten once it has no references left.
+	 *
+	 * @param entry the entry to release
+	 */
+	public synchronized void release(Entry entry) {
+		if (--entry.references == 0) {
+			// The store may have been cleared since, make sure to not remove a newer entry.
+			this.entries.remove(entry.image, entry);
+			this.entriesById.remove(entry.id, entry);
+		}
+	}
+
+	/**
+	 * {@return the stored image of the given identifier, or {@code null} if it is not stored}
+	 *
+	 * @param id the image identifier
+	 */
+	public synchronized @Nullable BlackboardImage get(int id) {
+		var entry = this.entriesById.get(id);
+		return entry == null ? null : entry.image;
+	}
+
+	/**
+	 * {@return the number of stored images}
+	 */
+	public synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Forgets every stored image, used when the server stops.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+		this.entriesById.clear();
+	}
+
+	/**
+	 * Represents a stored image.
+	 */
+	public static final class Entry {
+		private final int id;
+		private final BlackboardImage image;
+		private int references;
+
+		private Entry(int id, BlackboardImage image) {
+			this.id = id;
+			this.image = image;
+		}
+
+		public int getId() {
+			return this.id;
+		}
+
+		public BlackboardImage getImage() {
+			return this.image;
+		}
+	}
+}
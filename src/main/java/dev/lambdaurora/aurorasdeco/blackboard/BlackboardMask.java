@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+/**
+ * Represents a set of pixels of a blackboard, stored as a 16x16 bitset.
+ * <p>
+ * Each {@code long} holds four rows of 16 pixels, the pixel at {@code (x, y)} being the bit {@code y * 16 + x}.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BlackboardMask {
+	/**
+	 * The mask of a full row.
+	 */
+	public static final int ROW_MASK = 0xffff;
+
+	private final long[] bits = new long[4];
+
+	public BlackboardMask() {}
+
+	/**
+	 * {@return a new mask containing every pixel}
+	 */
+	public static BlackboardMask full() {
+		var mask = new BlackboardMask();
+		mask.bits[0] = mask.bits[1] = mask.bits[2] = mask.bits[3] = -1L;
+		return mask;
+	}
+
+	/**
+	 * Creates a mask of the pixels of the given color.
+	 *
+	 * @param pixels the pixels of the blackboard
+	 * @param color the raw color to match
+	 * @return the mask of the matching pixels
+	 */
+	public static BlackboardMask ofColor(short[] pixels, short color) {
+		var mask = new BlackboardMask();
+
+		for (int i = 0; i < 4; i++) {
+			long word = 0;
+			for (int bit = 0; bit < 64; bit++) {
+				if (pixels[i * 64 + bit] == color)
+					word |= 1L << bit;
+			}
+			mask.bits[i] = word;
+		}
+
+		return mask;
+	}
+
+	public boolean get(int index) {
+		return (this.bits[index >> 6] & (1L << index)) != 0;
+	}
+
+	public boolean get(int x, int y) {
+		return this.get(y * 16 + x);
+	}
+
+	public void set(int index) {
+		this.bits[index >> 6] |= 1L << index;
+	}
+
+	public void set(int x, int y) {
+		this.set(y * 16 + x);
+	}
+
+	/**
+	 * {@return the 16 bits of the given row}
+	 *
+	 * @param y the row
+	 */
+	public int getRow(int y) {
+		return (int) (this.bits[y >> 2] >>> ((y & 3) * 16)) & ROW_MASK;
+	}
+
+	/**
+	 * Adds the given bits to a row.
+	 *
+	 * @param y the row
+	 * @param row the bits to add, one per column
+	 */
+	public void orRow(int y, int row) {
+		this.bits[y >> 2] |= (long) (row & ROW_MASK) << ((y & 3) * 16);
+	}
+
+	/**
+	 * Adds all the pixels of the given mask to this mask.
+	 *
+	 * @param other the other mask
+	 */
+	public void or(BlackboardMask other) {
+		for (int i = 0; i < 4; i++) {
+			this.bits[i] |= other.bits[i];
+		}
+	}
+
+	/**
+	 * {@return the index of the first set pixel at or after the given index, or {@code -1} if there is none}
+	 *
+	 * @param from the index to start searching from
+	 */
+	public int nextSetBit(int from) {
+		if (from >= 256) return -1;
+
+		int wordIndex = from >> 6;
+		long word = this.bits[wordIndex] & (-1L << from);
+
+		while (true) {
+			if (word != 0)
+				return wordIndex * 64 + Long.numberOfTrailingZeros(word);
+			if (++wordIndex == 4)
+				return -1;
+			word = this.bits[wordIndex];
+		}
+	}
+
+	/**
+	 * {@return the amount of pixels in this mask}
+	 */
+	public int cardinality() {
+		return Long.bitCount(this.bits[0]) + Long.bitCount(this.bits[1])
+				+ Long.bitCount(this.bits[2]) + Long.bitCount(this.bits[3]);
+	}
+
+	/**
+	 * {@return {@code true} if this mask has no pixels, or {@code false} otherwise}
+	 */
+	public boolean isEmpty() {
+		return (this.bits[0] | this.bits[1] | this.bits[2] | this.bits[3]) == 0;
+	}
+
+	public void clear() {
+		this.bits[0] = this.bits[1] = this.bits[2] = this.bits[3] = 0;
+	}
+
+	public BlackboardMask copy() {
+		var copy = new BlackboardMask();
+		System.arraycopy(this.bits, 0, copy.bits, 0, 4);
+		return copy;
+	}
+}
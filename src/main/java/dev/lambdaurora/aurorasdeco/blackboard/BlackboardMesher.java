@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+/**
+ * Greedy mesher for blackboard drawings.
+ * <p>
+ * Merges pixels of the same raw color into maximal rectangles, which covers exactly the same pixels
+ * as emitting one quad per pixel while emitting far fewer quads.
+ * <p>
+ * Per-vertex lighting such as ambient occlusion is interpolated over a whole rectangle instead of each pixel,
+ * so it has to be disabled for the rectangles to look like individual pixels.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BlackboardMesher {
+	private BlackboardMesher() {
+		throw new UnsupportedOperationException("BlackboardMesher only contains static definitions.");
+	}
+
+	/**
+	 * Splits the given drawing into rectangles of the same raw color.
+	 * <p>
+	 * Empty pixels are skipped. Rectangles are grown horizontally first, then vertically.
+	 *
+	 * @param pixels the 16x16 raw pixels of the drawing
+	 * @param consumer the rectangle consumer
+	 * @return the number of rectangles
+	 */
+	public static int mesh(short[] pixels, RectangleConsumer consumer) {
+		// One bit per pixel, one short per row.
+		var visited = new short[16];
+		int count = 0;
+
+		for (int y = 0; y < 16; y++) {
+			for (int x = 0; x < 16; x++) {
+				short color = pixels[y * 16 + x];
+
+				if (color == 0 || (visited[y] & (1 << x)) != 0)
+					continue;
+
+				int width = 1;
+				while (x + width < 16 && pixels[y * 16 + x + width] == color && (visited[y] & (1 << (x + width))) == 0) {
+					width++;
+				}
+
+				int rowMask = ((1 << width) - 1) << x;
+				int height = 1;
+				while (y + height < 16 && canExtend(pixels, visited, x, y + height, width, rowMask, color)) {
+					height++;
+				}
+
+				for (int row = y; row < y + height; row++) {
+					visited[row] |= (short) rowMask;
+				}
+
+				consumer.accept(x, y, width, height, color);
+				count++;
+				x += width - 1;
+			}
+		}
+
+		return count;
+	}
+
+	private static boolean canExtend(short[] pixels, short[] visited, int x, int y, int width, int rowMask, short color) {
+		if ((visited[y] & rowMask) != 0)
+			return false;
+
+		for (int i = x; i < x + width; i++) {
+			if (pixels[y * 16 + i] != color)
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Represents a consumer of blackboard rectangles.
+	 */
+	@FunctionalInterface
+	public interface RectangleConsumer {
+		/**
+		 * Accepts a rectangle of a same raw color.
+		 *
+		 * @param x the left X coordinate of the rectangle
+		 * @param y the top Y coordinate of the rectangle
+		 * @param width the width of the rectangle
+		 * @param height the height of the rectangle
+		 * @param color the raw color of the rectangle
+		 */
+		void accept(int x, int y, int width, int height, short color);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+import net.minecraft.network.PacketByteBuf;
+
+/**
+ * Represents a set of changed pixels of a blackboard, used to sync strokes to clients without resending the whole drawing.
+ * <p>
+ * On the network, the changed pixels are written as runs of consecutive pixel indices.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BlackboardPixelDelta {
+	private final short[] pixels = new short[256];
+	private final BlackboardMask changed;
+
+	private BlackboardPixelDelta(BlackboardMask changed) {
+		this.changed = changed;
+	}
+
+	/**
+	 * Creates a delta of the {@linkplain Blackboard#getChanges() changed pixels} of the given blackboard.
+	 *
+	 * @param blackboard the blackboard
+	 * @return the delta
+	 */
+	public static BlackboardPixelDelta of(Blackboard blackboard) {
+		var changed = blackboard.getChanges();
+		var delta = new BlackboardPixelDelta(changed.copy());
+
+		for (int i = changed.nextSetBit(0); i != -1; i = changed.nextSetBit(i + 1)) {
+			delta.pixels[i] = blackboard.getPixel(i & 15, i >> 4);
+		}
+
+		return delta;
+	}
+
+	private boolean isChanged(int index) {
+		return this.changed.get(index);
+	}
+
+	/**
+	 * {@return {@code true} if no pixel has changed, or {@code false} otherwise}
+	 */
+	public boolean isEmpty() {
+		return this.changed.isEmpty();
+	}
+
+	/**
+	 * Applies the changed pixels to the given blackboard.
+	 * <p>
+	 * Pixels which actually change are recorded in the {@linkplain Blackboard#getChanges() changes} of the blackboard.
+	 *
+	 * @param blackboard the blackboard to patch
+	 */
+	public void applyTo(Blackboard blackboard) {
+		BlackboardRaster.copy(this.pixels, blackboard.getPixels(), this.changed, blackboard.getChanges());
+	}
+
+	/* Serialization */
+
+	public void write(PacketByteBuf buf) {
+		int runs = 0;
+		for (int i = 0; i < 256; i++) {
+			if (this.isChanged(i) && (i == 0 || !this.isChanged(i - 1)))
+				runs++;
+		}
+
+		buf.writeVarInt(runs);
+
+		int i = 0;
+		while (i < 256) {
+			if (!this.isChanged(i)) {
+				i++;
+				continue;
+			}
+
+			int start = i;
+			while (i < 256 && this.isChanged(i)) {
+				i++;
+			}
+
+			buf.writeByte(start);
+			buf.writeByte(i - start - 1);
+			for (int index = start; index < i; index++) {
+				buf.writeShort(this.pixels[index]);
+			}
+		}
+	}
+
+	public static BlackboardPixelDelta read(PacketByteBuf buf) {
+		var delta = new BlackboardPixelDelta(new BlackboardMask());
+		int runs = buf.readVarInt();
+
+		for (int run = 0; run < runs; run++) {
+			int start = buf.readUnsignedByte();
+			int length = buf.readUnsignedByte() + 1;
+
+			for (int index = start; index < start + length; index++) {
+				short pixel = buf.readShort();
+				if (index < 256) {
+					delta.pixels[index] = pixel;
+					delta.changed.set(index);
+				}
+			}
+		}
+
+		return delta;
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.blackboard;
+
+/**
+ * Raster operations on 16x16 blackboard pixels.
+ * <p>
+ * Operations first compute the {@link BlackboardMask mask} of the pixels they touch,
+ * then paint through that mask while recording which pixels actually changed.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BlackboardRaster {
+	private BlackboardRaster() {
+		throw new UnsupportedOperationException("BlackboardRaster only contains static definitions.");
+	}
+
+	/**
+	 * Sets the pixels of the given mask to the given color.
+	 *
+	 * @param pixels the pixels to paint
+	 * @param mask the pixels to paint
+	 * @param color the raw color
+	 * @param changes the mask to which changed pixels are added
+	 */
+	public static void paint(short[] pixels, BlackboardMask mask, short color, BlackboardMask changes) {
+		for (int i = mask.nextSetBit(0); i != -1; i = mask.nextSetBit(i + 1)) {
+			if (pixels[i] != color) {
+				pixels[i] = color;
+				changes.set(i);
+			}
+		}
+	}
+
+	/**
+	 * Applies the given modifier to the pixels of the given mask.
+	 *
+	 * @param pixels the pixels to modify
+	 * @param mask the pixels to modify
+	 * @param modifier the modifier to apply
+	 * @param changes the mask to which changed pixels are added
+	 */
+	public static void modify(short[] pixels, BlackboardMask mask, BlackboardDrawModifier modifier, BlackboardMask changes) {
+		for (int i = mask.nextSetBit(0); i != -1; i = mask.nextSetBit(i + 1)) {
+			short pixel = modifier.apply(pixels[i]);
+			if (pixels[i] != pixel) {
+				pixels[i] = pixel;
+				changes.set(i);
+			}
+		}
+	}
+
+	/**
+	 * Copies the pixels of the given mask from the source to the destination.
+	 *
+	 * @param source the source pixels
+	 * @param destination the destination pixels
+	 * @param mask the pixels to copy
+	 * @param changes the mask to which changed pixels are added
+	 */
+	public static void copy(short[] source, short[] destination, BlackboardMask mask, BlackboardMask changes) {
+		for (int i = mask.nextSetBit(0); i != -1; i = mask.nextSetBit(i + 1)) {
+			if (destination[i] != source[i]) {
+				destination[i] = source[i];
+				changes.set(i);
+			}
+		}
+	}
+
+	/**
+	 * Copies all the source pixels to the destination.
+	 *
+	 * @param source the source pixels
+	 * @param destination the destination pixels
+	 * @param changes the mask to which changed pixels are added
+	 */
+	public static void copy(short[] source, short[] destination, BlackboardMask changes) {
+		for (int i = 0; i < destination.length; i++) {
+			if (destination[i] != source[i]) {
+				destination[i] = source[i];
+				changes.set(i);
+			}
+		}
+	}
+
+	/**
+	 * {@return the mask of a 3x3 brush centered on the given coordinates}
+	 *
+	 * @param x the X coordinate of the center
+	 * @param y the Y coordinate of the center
+	 */
+	public static BlackboardMask brushMask(int x, int y) {
+		var mask = new BlackboardMask();
+		int row = x == 0 ? 0b11 : 0b111 << (x - 1);
+
+		for (int rowY = Math.max(y - 1, 0); rowY <= Math.min(y + 1, 15); rowY++) {
+			mask.orRow(rowY, row);
+		}
+
+		return mask;
+	}
+
+	/**
+	 * {@return the mask of the line between the two given points, using Bresenham's algorithm}
+	 *
+	 * @param x1 the X coordinate of the start point
+	 * @param y1 the Y coordinate of the start point
+	 * @param x2 the X coordinate of the end point
+	 * @param y2 the Y coordinate of the end point
+	 */
+	public static BlackboardMask lineMask(int x1, int y1, int x2, int y2) {
+		var mask = new BlackboardMask();
+		int d = 0;
+
+		int dx = Math.abs(x2 - x1);
+		int dy = Math.abs(y2 - y1);
+
+		int dx2 = 2 * dx;
+		int dy2 = 2 * dy;
+
+		int ix = x1 < x2 ? 1 : -1; // increment direction
+		int iy = y1 < y2 ? 1 : -1;
+
+		int x = x1;
+		int y = y1;
+
+		if (dx >= dy) {
+			while (true) {
+				mask.set(x, y);
+				if (x == x2)
+					break;
+				x += ix;
+				d += dy2;
+				if (d > dx) {
+					y += iy;
+					d -= dx2;
+				}
+			}
+		} else {
+			while (true) {
+				mask.set(x, y);
+				if (y == y2)
+					break;
+				y += iy;
+				d += dx2;
+				if (d > dy) {
+					x += ix;
+					d -= dy2;
+				}
+			}
+		}
+
+		return mask;
+	}
+
+	/**
+	 * {@return the mask of the 4-connected region of the same color as the pixel at the given coordinates}
+	 * <p>
+	 * Uses a scanline fill with an explicit stack: each row span is filled at once,
+	 * and only one seed per span of the rows above and below is pushed.
+	 *
+	 * @param pixels the pixels
+	 * @param x the X coordinate of the seed
+	 * @param y the Y coordinate of the seed
+	 */
+	public static BlackboardMask fillMask(short[] pixels, int x, int y) {
+		var region = new BlackboardMask();
+		short target = pixels[y * 16 + x];
+
+		// A pixel can only be pushed once by the span above it and once by the span below it.
+		var stack = new int[2 * 256 + 1];
+		int size = 0;
+		stack[size++] = y * 16 + x;
+
+		while (size > 0) {
+			int seed = stack[--size];
+			if (region.get(seed))
+				continue;
+
+			int seedY = seed >> 4;
+			int left = seed & 15;
+			int right = left;
+
+			while (left > 0 && pixels[seedY * 16 + left - 1] == target && !region.get(seedY * 16 + left - 1)) {
+				left--;
+			}
+			while (right < 15 && pixels[seedY * 16 + right + 1] == target && !region.get(seedY * 16 + right + 1)) {
+				right++;
+			}
+
+			region.orRow(seedY, (BlackboardMask.ROW_MASK >>> (15 - (right - left))) << left);
+
+			for (int rowY = seedY - 1; rowY <= seedY + 1; rowY += 2) {
+				if (rowY < 0 || rowY > 15)
+					continue;
+
+				boolean inSpan = false;
+				for (int column = left; column <= right; column++) {
+					int index = rowY * 16 + column;
+
+					if (pixels[index] == target && !region.get(index)) {
+						if (!inSpan) {
+							stack[size++] = index;
+							inSpan = true;
+						}
+					} else {
+						inSpan = false;
+					}
+				}
+			}
+		}
+
+		return region;
+	}
+
+	/**
+	 * Fills the 4-connected region of the same color as the pixel at the given coordinates.
+	 *
+	 * @param pixels the pixels
+	 * @param x the X coordinate of the seed
+	 * @param y the Y coordinate of the seed
+	 * @param color the raw color to fill with
+	 * @param changes the mask to which changed pixels are added
+	 */
+	public static void fill(short[] pixels, int x, int y, short color, BlackboardMask changes) {
+		if (pixels[y * 16 + x] != color) {
+			paint(pixels, fillMask(pixels, x, y), color, changes);
+		}
+	}
+
+	/**
+	 * Replaces every pixel of the same color as the pixel at the given coordinates.
+	 *
+	 * @param pixels the pixels
+	 * @param x the X coordinate of the pixel whose color is replaced
+	 * @param y the Y coordinate of the pixel whose color is replaced
+	 * @param color the replacement raw color
+	 * @param changes the mask to which changed pixels are added
+	 */
+	public static void replace(short[] pixels, int x, int y, short color, BlackboardMask changes) {
+		paint(pixels, BlackboardMask.ofColor(pixels, pixels[y * 16 + x]), color, changes);
+	}
+}
@@ -224,6 +224,12 @@ public class BenchBlock extends Block implements BlockEntityProvider, SeatBlock,
 		return newSelf;
 	}
 
+	@Override
+	public void onStateReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean moved) {
+		SeatBlock.onSeatReplaced(world, pos, newState, moved);
+		super.onStateReplaced(state, world, pos, newState, moved);
+	}
+
 	/* Interaction */
 
 	@Override
@@ -194,6 +194,11 @@ public class BookPileBlock extends BlockWithEntity implements Waterloggable {
 
 	/* Block entity stuff */
 
+	@Override
+	public BlockRenderType getRenderType(BlockState state) {
+		return BlockRenderType.MODEL;
+	}
+
 	@Override
 	public @Nullable BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
 		return AurorasDecoRegistry.BOOK_PILE_BLOCK_ENTITY_TYPE.instantiate(pos, state);
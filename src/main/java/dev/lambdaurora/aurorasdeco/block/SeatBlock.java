@@ -18,14 +18,13 @@
 package dev.lambdaurora.aurorasdeco.block;
 
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
-import dev.lambdaurora.aurorasdeco.entity.SeatEntity;
+import dev.lambdaurora.aurorasdeco.entity.SeatIndex;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoEntities;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
 
 public interface SeatBlock {
@@ -36,15 +35,18 @@ public interface SeatBlock {
 	}
 
 	default boolean canSit(World world, BlockPos pos, BlockState state) {
-		for (var player : world.getNonSpectatingEntities(PlayerEntity.class, new Box(pos))) {
-			if (player.hasVehicle()) {
-				if (player.getVehicle() instanceof SeatEntity)
-					return false;
-			}
-		}
+		// The passenger of a seat right below also reaches into this block.
+		if (isOccupied(world, pos) || isOccupied(world, pos.down()))
+			return false;
+
 		return this.canBeUsed(state);
 	}
 
+	private static boolean isOccupied(World world, BlockPos pos) {
+		var seat = SeatIndex.get(world, pos);
+		return seat != null && seat.hasPassengers();
+	}
+
 	default boolean sit(World world, BlockPos pos, BlockState state, PlayerEntity player, ItemStack stack) {
 		if (world.isClient())
 			return stack.isEmpty();
@@ -58,10 +60,35 @@ public interface SeatBlock {
 			return false;
 		seatEntity.setPosition(pos.getX() + .5f, pos.getY() + this.getSitYOffset(), pos.getZ() + .5f);
 		world.spawnEntity(seatEntity);
-		player.startRiding(seatEntity, true);
+		seatEntity.attachTo(pos);
+
+		if (!player.startRiding(seatEntity, true)) {
+			seatEntity.discard();
+			return false;
+		}
 
 		return true;
 	}
 
+	/**
+	 * Removes the seat of a seat block once it is replaced, this must be called by seat blocks
+	 * in {@link net.minecraft.block.AbstractBlock#onStateReplaced(BlockState, World, BlockPos, BlockState, boolean)}.
+	 * <p>
+	 * Seats moved by pistons are kept, pistons move them along with their seat block.
+	 *
+	 * @param world the world
+	 * @param pos the position of the seat block
+	 * @param newState the new block state
+	 * @param moved {@code true} if the seat block is being moved by a piston, or {@code false} otherwise
+	 */
+	static void onSeatReplaced(World world, BlockPos pos, BlockState newState, boolean moved) {
+		if (world.isClient() || moved || newState.getBlock() instanceof SeatBlock)
+			return;
+
+		var seat = SeatIndex.get(world, pos);
+		if (seat != null && !seat.hasTimeout())
+			seat.discard();
+	}
+
 	float getSitYOffset();
 }
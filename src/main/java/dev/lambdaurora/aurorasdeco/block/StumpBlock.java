@@ -133,6 +133,12 @@ public class StumpBlock extends Block implements SeatBlock, Waterloggable {
 		return super.getStateForNeighborUpdate(state, direction, newState, world, pos, posFrom);
 	}
 
+	@Override
+	public void onStateReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean moved) {
+		SeatBlock.onSeatReplaced(world, pos, newState, moved);
+		super.onStateReplaced(state, world, pos, newState, moved);
+	}
+
 	/* Interaction */
 
 	@Override
@@ -21,7 +21,6 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
 import dev.lambdaurora.aurorasdeco.accessor.BlockItemAccessor;
-import dev.lambdaurora.aurorasdeco.block.entity.SwayingBlockEntity;
 import dev.lambdaurora.aurorasdeco.mixin.block.BlockAccessor;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoSounds;
@@ -29,8 +28,6 @@ import dev.lambdaurora.aurorasdeco.util.AuroraUtil;
 import dev.lambdaurora.aurorasdeco.util.CustomStateBuilder;
 import net.minecraft.block.*;
 import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.block.entity.BlockEntityTicker;
-import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.block.piston.PistonBehavior;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.ai.pathing.NavigationType;
@@ -337,13 +334,6 @@ public class WallLanternBlock<L extends LanternBlock> extends BlockWithEntity im
 		return AurorasDecoRegistry.WALL_LANTERN_BLOCK_ENTITY_TYPE.instantiate(pos, state);
 	}
 
-	@Override
-	public <T extends BlockEntity> @Nullable BlockEntityTicker<T> getTicker(World world, BlockState state,
-			BlockEntityType<T> type) {
-		return checkType(type, AurorasDecoRegistry.WALL_LANTERN_BLOCK_ENTITY_TYPE,
-				world.isClient() ? SwayingBlockEntity::clientTick : SwayingBlockEntity::serverTick);
-	}
-
 	/* Fluid */
 
 	@Override
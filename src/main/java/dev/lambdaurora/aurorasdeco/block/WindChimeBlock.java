@@ -17,12 +17,9 @@
 
 package dev.lambdaurora.aurorasdeco.block;
 
-import dev.lambdaurora.aurorasdeco.block.entity.SwayingBlockEntity;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import net.minecraft.block.*;
 import net.minecraft.block.entity.BlockEntity;
-import net.minecraft.block.entity.BlockEntityTicker;
-import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.projectile.ProjectileEntity;
@@ -191,13 +188,6 @@ public class WindChimeBlock extends BlockWithEntity implements Waterloggable {
 		return AurorasDecoRegistry.WIND_CHIME_BLOCK_ENTITY_TYPE.instantiate(pos, state);
 	}
 
-	@Override
-	public <T extends BlockEntity> @Nullable BlockEntityTicker<T> getTicker(World world, BlockState state,
-			BlockEntityType<T> type) {
-		return checkType(type, AurorasDecoRegistry.WIND_CHIME_BLOCK_ENTITY_TYPE,
-				world.isClient() ? SwayingBlockEntity::clientTick : SwayingBlockEntity::serverTick);
-	}
-
 	@Override
 	public BlockRenderType getRenderType(BlockState state) {
 		return BlockRenderType.MODEL;
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.block.behavior;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.RedstoneTorchBlock;
+
+/**
+ * Tracks the recent toggles of redstone components of a world, to make them burn out like {@link RedstoneTorchBlock redstone torches}.
+ * <p>
+ * Toggles are counted per packed block position, and are stored in a ring buffer of one bucket per tick
+ * covering the {@linkplain RedstoneTorchBlock#RECENT_TOGGLE_TIMER toggle timer}, so expired toggles are forgotten
+ * bucket by bucket instead of scanning every toggle of the world.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BurnoutTracker {
+	private static final int BUCKETS = RedstoneTorchBlock.RECENT_TOGGLE_TIMER + 1;
+
+	private final Long2IntOpenHashMap toggles = new Long2IntOpenHashMap();
+	private final LongArrayList[] buckets = new LongArrayList[BUCKETS];
+	/**
+	 * The time before which every toggle has been forgotten.
+	 */
+	private long expiryTime;
+
+	/**
+	 * Records a toggle of the component at the given position.
+	 *
+	 * @param pos the packed position of the component
+	 * @param time the world time
+	 * @return the amount of recent toggles of the component, including this one
+	 */
+	public int record(long pos, long time) {
+		this.expire(time);
+
+		int index = (int) Math.floorMod(time, BUCKETS);
+		var bucket = this.buckets[index];
+		if (bucket == null) {
+			bucket = this.buckets[index] = new LongArrayList();
+		}
+
+		bucket.add(pos);
+		return this.toggles.addTo(pos, 1) + 1;
+	}
+
+	/**
+	 * {@return the amount of recent toggles of the component at the given position}
+	 *
+	 * @param pos the packed position of the component
+	 * @param time the world time
+	 */
+	public int getToggles(long pos, long time) {
+		this.expire(time);
+		return this.toggles.get(pos);
+	}
+
+	/**
+	 * Forgets the toggles older than the toggle timer.
+	 *
+	 * @param time the world time
+	 */
+	private void expire(long time) {
+		long expiryTime = time - RedstoneTorchBlock.RECENT_TOGGLE_TIMER;
+
+		if (this.toggles.isEmpty()) {
+			this.expiryTime = expiryTime;
+			return;
+		} else if (expiryTime <= this.expiryTime) {
+			return;
+		}
+
+		if (expiryTime - this.expiryTime >= BUCKETS) {
+			// Every tracked toggle has expired.
+			this.toggles.clear();
+
+			for (var bucket : this.buckets) {
+				if (bucket != null) bucket.clear();
+			}
+		} else {
+			for (long bucketTime = this.expiryTime; bucketTime < expiryTime; bucketTime++) {
+				var bucket = this.buckets[(int) Math.floorMod(bucketTime, BUCKETS)];
+				if (bucket == null) continue;
+
+				for (int i = 0; i < bucket.size(); i++) {
+					long pos = bucket.getLong(i);
+
+					if (this.toggles.addTo(pos, -1) == 1) {
+						this.toggles.remove(pos);
+					}
+				}
+
+				bucket.clear();
+			}
+		}
+
+		this.expiryTime = expiryTime;
+	}
+}
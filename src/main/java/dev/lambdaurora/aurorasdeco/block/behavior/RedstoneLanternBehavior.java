@@ -30,8 +30,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldEvents;
 import net.minecraft.world.logic.RedstoneSignalLevels;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
 import java.util.function.Function;
@@ -49,7 +47,7 @@ import java.util.function.Function;
  */
 public final class RedstoneLanternBehavior {
 	public static final BooleanProperty LIT = Properties.LIT;
-	private final Map<BlockView, List<BurnoutEntry>> burnoutMap = new WeakHashMap<>();
+	private final Map<BlockView, BurnoutTracker> burnoutTrackers = new WeakHashMap<>();
 	private final Function<BlockState, Direction> attachmentDirection;
 
 	public RedstoneLanternBehavior(Function<BlockState, Direction> attachmentDirection) {
@@ -93,11 +91,6 @@ public final class RedstoneLanternBehavior {
 
 	public void scheduledTick(BlockState state, ServerWorld world, BlockPos pos) {
 		boolean shouldUnpower = this.shouldUnpower(world, pos, state);
-		List<BurnoutEntry> list = this.burnoutMap.get(world);
-
-		while (list != null && !list.isEmpty() && world.getTime() - list.get(0).time > RedstoneTorchBlock.RECENT_TOGGLE_TIMER) {
-			list.remove(0);
-		}
 
 		if (isLit(state)) {
 			if (shouldUnpower) {
@@ -114,22 +107,15 @@ public final class RedstoneLanternBehavior {
 	}
 
 	private boolean isBurnedOut(World world, BlockPos pos, boolean addNew) {
-		var list = this.burnoutMap.computeIfAbsent(world, w -> new ArrayList<>());
+		int toggles;
 
 		if (addNew) {
-			list.add(new BurnoutEntry(pos.toImmutable(), world.getTime()));
+			toggles = this.burnoutTrackers.computeIfAbsent(world, w -> new BurnoutTracker()).record(pos.asLong(), world.getTime());
+		} else {
+			var tracker = this.burnoutTrackers.get(world);
+			toggles = tracker == null ? 0 : tracker.getToggles(pos.asLong(), world.getTime());
 		}
 
-		int i = 0;
-
-		for (var burnoutEntry : list) {
-			if (burnoutEntry.pos().equals(pos) && ++i >= RedstoneTorchBlock.MAX_RECENT_TOGGLES) {
-				return true;
-			}
-		}
-
-		return false;
+		return toggles >= RedstoneTorchBlock.MAX_RECENT_TOGGLES;
 	}
-
-	public record BurnoutEntry(BlockPos pos, long time) {}
 }
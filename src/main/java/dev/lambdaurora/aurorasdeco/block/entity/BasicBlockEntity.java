@@ -17,6 +17,7 @@
 
 package dev.lambdaurora.aurorasdeco.block.entity;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityType;
@@ -24,24 +25,83 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.network.listener.ClientPlayPacketListener;
 import net.minecraft.network.packet.Packet;
 import net.minecraft.network.packet.s2c.play.BlockEntityUpdateS2CPacket;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import org.quiltmc.qsl.block.entity.api.QuiltBlockEntity;
 
+import java.util.Set;
+
 /**
  * Represents a basic block entity with common serialization and update packet code.
+ * <p>
+ * Only the data written by {@link #writeClientNbt(NbtCompound)} is sent to clients,
+ * the data only used by the server stays in {@link #writeNbt(NbtCompound)}.
  *
  * @author LambdAurora
  * @version 1.0.0
  * @since 1.0.0
  */
-public class BasicBlockEntity extends BlockEntity implements QuiltBlockEntity {
+public abstract class BasicBlockEntity extends BlockEntity implements QuiltBlockEntity {
+	private static final Set<BasicBlockEntity> PENDING_UPDATES = new ReferenceOpenHashSet<>();
+	private boolean syncDirty;
+
 	public BasicBlockEntity(BlockEntityType<?> blockEntityType, BlockPos blockPos, BlockState blockState) {
 		super(blockEntityType, blockPos, blockState);
 	}
 
+	/* Sync */
+
+	/**
+	 * Marks this block entity as needing to be synced to the clients.
+	 * <p>
+	 * The sync happens at the end of the tick, so changing this block entity multiple times during a tick
+	 * results in a single update packet.
+	 */
+	public void markSyncDirty() {
+		if (!this.syncDirty && this.world instanceof ServerWorld) {
+			this.syncDirty = true;
+			PENDING_UPDATES.add(this);
+		}
+	}
+
+	/**
+	 * Syncs every block entity marked as needing to be synced during this tick.
+	 */
+	public static void flushPendingUpdates() {
+		if (PENDING_UPDATES.isEmpty())
+			return;
+
+		for (var blockEntity : PENDING_UPDATES) {
+			blockEntity.syncDirty = false;
+
+			if (!blockEntity.isRemoved() && blockEntity.world instanceof ServerWorld) {
+				blockEntity.sync();
+			}
+		}
+		PENDING_UPDATES.clear();
+	}
+
+	/* Serialization */
+
+	/**
+	 * Writes the data clients need to render and interact with this block entity.
+	 *
+	 * @param nbt the NBT to write to
+	 */
+	protected abstract void writeClientNbt(NbtCompound nbt);
+
+	/**
+	 * Reads the data written by {@link #writeClientNbt(NbtCompound)}.
+	 *
+	 * @param nbt the NBT to read from
+	 */
+	protected abstract void readClientNbt(NbtCompound nbt);
+
 	@Override
 	public NbtCompound toSyncedNbt() {
-		return this.toNbt();
+		var nbt = new NbtCompound();
+		this.writeClientNbt(nbt);
+		return nbt;
 	}
 
 	@Override
@@ -115,16 +115,17 @@ public class BenchBlockEntity extends BasicBlockEntity implements RenderAttachme
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
-		this.readBenchNbt(nbt);
+		this.readClientNbt(nbt);
 	}
 
 	@Override
 	public void writeNbt(NbtCompound nbt) {
 		super.writeNbt(nbt);
-		this.writeBenchNbt(nbt);
+		this.writeClientNbt(nbt);
 	}
 
-	private void readBenchNbt(NbtCompound nbt) {
+	@Override
+	protected void readClientNbt(NbtCompound nbt) {
 		var hadRest = this.rest != null;
 		this.rest = null;
 		if (nbt.contains("rest", NbtElement.STRING_TYPE)) {
@@ -141,7 +142,8 @@ public class BenchBlockEntity extends BasicBlockEntity implements RenderAttachme
 		}
 	}
 
-	private void writeBenchNbt(NbtCompound nbt) {
+	@Override
+	protected void writeClientNbt(NbtCompound nbt) {
 		if (this.rest != null)
 			nbt.putString("rest", Registries.ITEM.getId(this.rest).toString());
 	}
@@ -20,12 +20,19 @@ package dev.lambdaurora.aurorasdeco.block.entity;
 import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
 import dev.lambdaurora.aurorasdeco.blackboard.BlackboardDrawModifier;
 import dev.lambdaurora.aurorasdeco.blackboard.BlackboardHandler;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImage;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImageStore;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardPixelDelta;
 import dev.lambdaurora.aurorasdeco.block.BlackboardBlock;
+import dev.lambdaurora.aurorasdeco.client.BlackboardImageCache;
+import dev.lambdaurora.aurorasdeco.client.BlackboardMeshManager;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachmentBlockEntity;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.player.PlayerEntity;
@@ -35,11 +42,15 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Nameable;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.ChunkSectionPos;
 import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.quiltmc.loader.api.minecraft.MinecraftQuiltLoader;
+import org.quiltmc.qsl.networking.api.PacketByteBufs;
+import org.quiltmc.qsl.networking.api.PlayerLookup;
+import org.quiltmc.qsl.networking.api.ServerPlayNetworking;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -51,10 +62,13 @@ import java.util.Set;
  */
 public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 		RenderAttachmentBlockEntity, BlackboardHandler {
-	@ClientOnly
-	private static final Set<BlackboardBlockEntity> ACTIVE_BLACKBOARDS = new ObjectOpenHashSet<>();
+	private static final Set<BlackboardBlockEntity> PENDING_SYNCS = new ReferenceOpenHashSet<>();
 	private final Blackboard blackboard = new AssignedBlackboard();
 	private @Nullable Text customName;
+	/**
+	 * The stored image of the blackboard, only present on the server until the blackboard is modified.
+	 */
+	private BlackboardImageStore.@Nullable Entry storedImage;
 
 	public PlayerEntity lastUser;
 	public int lastX;
@@ -64,6 +78,16 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	private Mesh mesh = null;
 	@ClientOnly
 	private boolean meshDirty = true;
+	/**
+	 * The identifier of the image requested from the server, or {@code 0} if none.
+	 */
+	@ClientOnly
+	private int pendingImageId;
+	/**
+	 * The pixel changes received while waiting for the image, applied once the image is received.
+	 */
+	@ClientOnly
+	private List<BlackboardPixelDelta> pendingDeltas;
 
 	public BlackboardBlockEntity(BlockPos pos, BlockState state) {
 		super(AurorasDecoRegistry.BLACKBOARD_BLOCK_ENTITY_TYPE, pos, state);
@@ -76,82 +100,46 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 
 	@Override
 	public boolean setPixel(int x, int y, int color) {
-		if (this.blackboard.setPixel(x, y, color)) {
-			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
-				this.markDirty();
-			}
-			return true;
-		}
-		return false;
+		this.prepareSync();
+		return this.blackboard.setPixel(x, y, color);
 	}
 
 	@Override
 	public boolean brush(int x, int y, int color) {
-		if (this.blackboard.brush(x, y, color)) {
-			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
-				this.markDirty();
-			}
-			return true;
-		}
-		return false;
+		this.prepareSync();
+		return this.blackboard.brush(x, y, color);
 	}
 
 	@Override
 	public boolean replace(int x, int y, int color) {
-		if (this.blackboard.replace(x, y, color)) {
-			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
-				this.markDirty();
-			}
-			return true;
-		}
-		return false;
+		this.prepareSync();
+		return this.blackboard.replace(x, y, color);
 	}
 
 	@Override
 	public boolean fill(int x, int y, int color) {
-		if (this.blackboard.fill(x, y, color)) {
-			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
-				this.markDirty();
-			}
-			return true;
-		}
-		return false;
+		this.prepareSync();
+		return this.blackboard.fill(x, y, color);
 	}
 
 	@Override
 	public boolean line(int x1, int y1, int x2, int y2, BlackboardDrawModifier modifier) {
-		if (this.blackboard.line(x1, y1, x2, y2, modifier)) {
-			if (this.getWorld() instanceof ServerWorld) {
-				this.sync();
-				this.markDirty();
-			}
-			return true;
-		}
-		return false;
+		this.prepareSync();
+		return this.blackboard.line(x1, y1, x2, y2, modifier);
 	}
 
 	public void copy(Blackboard source) {
+		this.prepareSync();
 		this.blackboard.copy(source);
-		if (this.getWorld() instanceof ServerWorld) {
-			this.sync();
-			this.markDirty();
-		}
 	}
 
 	/**
 	 * Clears the blackboard.
 	 */
 	public void clear() {
+		this.prepareSync();
 		this.blackboard.clear();
 		this.lastUser = null;
-		if (this.getWorld() instanceof ServerWorld) {
-			this.sync();
-			this.markDirty();
-		}
 	}
 
 	/**
@@ -195,8 +183,9 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	@Override
 	public void markRemoved() {
 		super.markRemoved();
+		this.releaseStoredImage();
 
-		if (MinecraftQuiltLoader.getEnvironmentType() == EnvType.CLIENT) {
+		if (this.world != null && this.world.isClient()) {
 			this.markBlackboardRemoved();
 		}
 	}
@@ -205,17 +194,182 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	public void cancelRemoval() {
 		super.cancelRemoval();
 
-		if (MinecraftQuiltLoader.getEnvironmentType() == EnvType.CLIENT) {
-			ACTIVE_BLACKBOARDS.add(this);
+		if (this.world != null && this.world.isClient()) {
+			this.markBlackboardActive();
+		}
+	}
+
+	/* Sync */
+
+	/**
+	 * Prepares the sync of the upcoming pixel changes.
+	 * <p>
+	 * The changed pixels are accumulated until the end of the tick, at which point only those are sent.
+	 */
+	private void prepareSync() {
+		if (this.getWorld() instanceof ServerWorld) {
+			// The blackboard is about to stop sharing the stored image.
+			this.releaseStoredImage();
+			PENDING_SYNCS.add(this);
+		}
+	}
+
+	/**
+	 * Gets the stored entry of the current image of this blackboard, storing it if needed.
+	 * <p>
+	 * Once stored, this blackboard shares the pixels of the stored image with every other blackboard holding the same drawing.
+	 *
+	 * @return the stored image
+	 */
+	public BlackboardImageStore.Entry getStoredImage() {
+		if (this.storedImage == null) {
+			this.storedImage = BlackboardImageStore.get().acquire(BlackboardImage.of(this.blackboard));
+			this.blackboard.share(this.storedImage.getImage());
+		}
+
+		return this.storedImage;
+	}
+
+	private void releaseStoredImage() {
+		if (this.storedImage != null) {
+			BlackboardImageStore.get().release(this.storedImage);
+			this.storedImage = null;
+		}
+	}
+
+	private void flushSync() {
+		var changes = this.blackboard.getChanges();
+
+		if (changes.isEmpty() || this.isRemoved() || !(this.getWorld() instanceof ServerWorld))
+			return;
+
+		var delta = BlackboardPixelDelta.of(this.blackboard);
+		changes.clear();
+
+		this.markDirty();
+
+		var buf = PacketByteBufs.create();
+		buf.writeBlockPos(this.getPos());
+		delta.write(buf);
+
+		var packet = ServerPlayNetworking.createS2CPacket(AurorasDecoPackets.BLACKBOARD_PIXELS, buf);
+		for (var player : PlayerLookup.tracking(this)) {
+			player.networkHandler.sendPacket(packet);
+		}
+	}
+
+	/**
+	 * Sends the pixel changes of every blackboard modified during this tick to the tracking players.
+	 * <p>
+	 * All strokes done on a blackboard within a tick are coalesced into a single packet.
+	 */
+	public static void flushPendingSyncs() {
+		if (PENDING_SYNCS.isEmpty())
+			return;
+
+		for (var blackboard : PENDING_SYNCS) {
+			blackboard.flushSync();
 		}
+		PENDING_SYNCS.clear();
 	}
 
 	/* Client */
 
+	/**
+	 * Applies the pixel changes sent by the server.
+	 *
+	 * @param delta the changed pixels
+	 */
+	@ClientOnly
+	public void applyPixelDelta(BlackboardPixelDelta delta) {
+		if (this.pendingImageId != 0) {
+			// The changes are relative to the image which has not been received yet.
+			this.pendingDeltas.add(delta);
+			return;
+		}
+
+		delta.applyTo(this.blackboard);
+
+		// The changes also include the ones predicted by the client, which have not been meshed yet.
+		if (!this.blackboard.getChanges().isEmpty()) {
+			this.refreshRendering();
+		}
+	}
+
+	/**
+	 * Sets the image of this blackboard from its identifier, requesting it from the server if it is not known yet.
+	 *
+	 * @param id the image identifier
+	 */
+	@ClientOnly
+	private void readImageId(int id) {
+		var image = BlackboardImageCache.get(id);
+
+		if (image != null) {
+			this.cancelImageRequest();
+			this.blackboard.share(image);
+		} else {
+			this.pendingImageId = id;
+			this.pendingDeltas = new ArrayList<>();
+			BlackboardImageCache.request(id, this);
+		}
+	}
+
+	@ClientOnly
+	private void cancelImageRequest() {
+		this.pendingImageId = 0;
+		this.pendingDeltas = null;
+	}
+
+	/**
+	 * Called when the requested image has been received.
+	 *
+	 * @param requestedId the requested image identifier
+	 * @param image the received image
+	 */
+	@ClientOnly
+	public void onImageReceived(int requestedId, BlackboardImage image) {
+		if (this.pendingImageId != requestedId)
+			return; // Another image has been synced since.
+
+		var deltas = this.pendingDeltas;
+		this.pendingImageId = 0;
+		this.pendingDeltas = null;
+
+		this.blackboard.share(image);
+		for (var delta : deltas) {
+			delta.applyTo(this.blackboard);
+		}
+
+		this.refreshRendering();
+	}
+
+	/**
+	 * Called when the server refused to give the requested image.
+	 * <p>
+	 * This blackboard stops waiting for it, so that the next sync from the server requests its image again.
+	 *
+	 * @param requestedId the requested image identifier
+	 */
+	@ClientOnly
+	public void onImageRefused(int requestedId) {
+		if (this.pendingImageId == requestedId)
+			this.cancelImageRequest();
+	}
+
 	@Override
 	public @Nullable Object getRenderAttachmentData() {
+		// Only queried by the client when the chunk section is rebuilt.
+		return this.getRenderedMesh();
+	}
+
+	/**
+	 * {@return the mesh to render, which may be outdated until the mesh of the current drawing has been built}
+	 */
+	@ClientOnly
+	private @Nullable Mesh getRenderedMesh() {
 		if (this.meshDirty)
-			this.rebuildMesh();
+			BlackboardMeshManager.request(this);
 		return this.mesh;
 	}
 
@@ -225,26 +379,48 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	}
 
 	@ClientOnly
-	private void rebuildMesh() {
+	public boolean isMeshDirty() {
+		return this.meshDirty;
+	}
+
+	/**
+	 * {@return the key of the mesh of the current drawing}
+	 */
+	@ClientOnly
+	public BlackboardMeshManager.MeshKey getMeshKey() {
+		return new BlackboardMeshManager.MeshKey(BlackboardImage.of(this.blackboard), this.getCachedState().get(BlackboardBlock.FACING));
+	}
+
+	/**
+	 * Sets the mesh of this blackboard, which is then up-to-date with the current drawing.
+	 *
+	 * @param mesh the mesh
+	 */
+	@ClientOnly
+	public void setMesh(Mesh mesh) {
+		this.mesh = mesh;
 		this.meshDirty = false;
-		int light = this.blackboard.isLit() ? 0xf000f0 : 0;
-		this.mesh = this.blackboard.buildMesh(this.getCachedState().get(BlackboardBlock.FACING), light);
+		this.blackboard.getChanges().clear();
 	}
 
+	/**
+	 * Re-renders the chunk section of this blackboard.
+	 */
 	@ClientOnly
-	public void markBlackboardRemoved() {
-		ACTIVE_BLACKBOARDS.remove(this);
+	public void redraw() {
+		if (this.world instanceof ClientWorld clientWorld) {
+			clientWorld.updateListeners(this.getPos(), this.getCachedState(), this.getCachedState(), Block.REDRAW_ON_MAIN_THREAD);
+		}
 	}
 
 	@ClientOnly
-	public static void markAllMeshesDirty() {
-		ACTIVE_BLACKBOARDS.forEach(BlackboardBlockEntity::markMeshDirty);
+	private void markBlackboardActive() {
+		BlackboardMeshManager.track(this);
 	}
 
 	@ClientOnly
-	public static void onWorldChange(@Nullable ClientWorld world) {
-		ACTIVE_BLACKBOARDS.removeIf(blackboardBlockEntity -> blackboardBlockEntity.world == null
-				|| blackboardBlockEntity.world != world);
+	private void markBlackboardRemoved() {
+		BlackboardMeshManager.untrack(this);
 	}
 
 	/* Serialization */
@@ -252,22 +428,31 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
-		this.readBlackBoardNbt(nbt);
+
+		if (nbt.contains("image_id", NbtElement.INT_TYPE)) {
+			// Synced blackboard, only sent to clients.
+			this.readClientNbt(nbt);
+		} else {
+			if (MinecraftQuiltLoader.getEnvironmentType() == EnvType.CLIENT) {
+				this.cancelImageRequest();
+			}
+
+			this.readBlackBoardNbt(nbt);
+		}
+
 		this.lastUser = null;
 		if (this.world != null && this.world.isClient()) {
 			this.refreshRendering();
 		}
 	}
 
-	public void refreshRendering() {
-		if (this.world instanceof ClientWorld clientWorld) {
-			this.rebuildMesh();
-			clientWorld.scheduleBlockRenders(
-					ChunkSectionPos.getSectionCoord(this.getPos().getX()),
-					ChunkSectionPos.getSectionCoord(this.getPos().getY()),
-					ChunkSectionPos.getSectionCoord(this.getPos().getZ())
-			);
-		}
+	@ClientOnly
+	private void refreshRendering() {
+		this.markMeshDirty();
+
+		// Otherwise, the chunk section is re-rendered once the mesh has been built.
+		if (BlackboardMeshManager.request(this))
+			BlackboardMeshManager.scheduleRedraw(this);
 	}
 
 	@Override
@@ -276,20 +461,48 @@ public class BlackboardBlockEntity extends BasicBlockEntity implements Nameable,
 		this.writeBlackBoardNbt(nbt);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Only the identifier of the stored image is synced, clients request the image itself if they don't know it yet.
+	 */
+	@Override
+	protected void writeClientNbt(NbtCompound nbt) {
+		nbt.putInt("image_id", this.getStoredImage().getId());
+		this.writeCustomName(nbt);
+	}
+
+	@Override
+	protected void readClientNbt(NbtCompound nbt) {
+		if (MinecraftQuiltLoader.getEnvironmentType() == EnvType.CLIENT) {
+			this.readImageId(nbt.getInt("image_id"));
+		}
+
+		this.readCustomName(nbt);
+	}
+
 	public void readBlackBoardNbt(NbtCompound nbt) {
+		this.releaseStoredImage();
 		this.blackboard.readNbt(nbt);
+		this.readCustomName(nbt);
+	}
 
+	public NbtCompound writeBlackBoardNbt(NbtCompound nbt) {
+		this.blackboard.writeNbt(nbt);
+		this.writeCustomName(nbt);
+		return nbt;
+	}
+
+	private void readCustomName(NbtCompound nbt) {
 		if (nbt.contains("custom_name", NbtElement.STRING_TYPE)) {
 			this.customName = Text.Serializer.fromJson(nbt.getString("custom_name"));
 		}
 	}
 
-	public NbtCompound writeBlackBoardNbt(NbtCompound nbt) {
-		this.blackboard.writeNbt(nbt);
+	private void writeCustomName(NbtCompound nbt) {
 		if (this.customName != null) {
 			nbt.putString("custom_name", Text.Serializer.toJson(this.customName));
 		}
-		return nbt;
 	}
 
 	private class AssignedBlackboard extends Blackboard {
@@ -17,13 +17,22 @@
 
 package dev.lambdaurora.aurorasdeco.block.entity;
 
+import dev.lambdaurora.aurorasdeco.client.RenderRule;
+import dev.lambdaurora.aurorasdeco.client.model.BakedBookPileModel;
+import dev.lambdaurora.aurorasdeco.client.model.BakedSlotTracker;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachmentBlockEntity;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.inventory.Inventories;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Random;
 
 /**
  * Represents a book pile block entity.
@@ -32,8 +41,18 @@ import net.minecraft.util.math.BlockPos;
  * @version 1.0.0
  * @since 1.0.0
  */
-public class BookPileBlockEntity extends BasicBlockEntity {
+public class BookPileBlockEntity extends BasicBlockEntity implements RenderAttachmentBlockEntity, MeshBakedBlockEntity,
+		SlotSyncedBlockEntity {
 	private final DefaultedList<ItemStack> books = DefaultedList.ofSize(5, ItemStack.EMPTY);
+	@ClientOnly
+	private RenderRule.ModelSelection modelSelection;
+	/**
+	 * The rotation of each layer of books, which only depends on the position of the pile.
+	 */
+	@ClientOnly
+	private int[] bookAngles;
+	@ClientOnly
+	private BakedSlotTracker bakedSlots;
 
 	public BookPileBlockEntity(BlockPos pos, BlockState state) {
 		super(AurorasDecoRegistry.BOOK_PILE_BLOCK_ENTITY_TYPE, pos, state);
@@ -43,6 +62,15 @@ public class BookPileBlockEntity extends BasicBlockEntity {
 		return this.books;
 	}
 
+	@ClientOnly
+	public RenderRule.ModelSelection getModelSelection() {
+		if (this.modelSelection == null) {
+			this.modelSelection = new RenderRule.ModelSelection(this.books.size());
+		}
+
+		return this.modelSelection;
+	}
+
 	public boolean isFull() {
 		return this.books.stream().noneMatch(ItemStack::isEmpty);
 	}
@@ -54,7 +82,7 @@ public class BookPileBlockEntity extends BasicBlockEntity {
 				copy.setCount(1);
 				this.books.set(i, copy);
 
-				this.attemptToSync();
+				this.markSlotDirty(i);
 				return;
 			}
 		}
@@ -65,31 +93,122 @@ public class BookPileBlockEntity extends BasicBlockEntity {
 		var copy = stack.copy();
 		if (!stack.isEmpty()) {
 			stack.setCount(0);
-			this.attemptToSync();
+			this.markSlotDirty(slot);
 		}
 		return copy;
 	}
 
+	/* Rendering */
+
+	/**
+	 * {@return the rotation around the Y-axis of the book at the given layer of the pile, in degrees}
+	 *
+	 * @param layer the layer of the book, starting from the floor
+	 */
+	@ClientOnly
+	public int getBookAngle(int layer) {
+		if (this.bookAngles == null) {
+			var random = new Random(this.getPos().asLong());
+
+			this.bookAngles = new int[this.books.size()];
+			for (int i = 0; i < this.bookAngles.length; i++) {
+				this.bookAngles[i] = random.nextInt(360);
+			}
+		}
+
+		return this.bookAngles[layer];
+	}
+
+	@ClientOnly
+	public BakedSlotTracker getBakedSlots() {
+		if (this.bakedSlots == null) {
+			this.bakedSlots = new BakedSlotTracker();
+		}
+
+		return this.bakedSlots;
+	}
+
+	/**
+	 * {@return {@code true} if the book in the given slot is baked in the chunk mesh, or {@code false} otherwise}
+	 *
+	 * @param slot the slot
+	 */
+	@ClientOnly
+	public boolean isRenderedStatically(int slot) {
+		return this.getBakedSlots().contains(slot);
+	}
+
+	@ClientOnly
+	@Override
+	public @Nullable Object getRenderAttachmentData() {
+		// Only queried when the chunk section is rebuilt.
+		return BakedBookPileModel.Contents.of(this);
+	}
+
+	@ClientOnly
+	@Override
+	public void onChunkMeshUploaded() {
+		this.getBakedSlots().onUploaded();
+	}
+
+	@ClientOnly
+	private void refreshRendering() {
+		// Render every book dynamically until the chunk section is rebuilt with the new books.
+		this.getBakedSlots().invalidate();
+		this.world.updateListeners(this.getPos(), this.getCachedState(), this.getCachedState(), Block.REDRAW_ON_MAIN_THREAD);
+	}
+
 	/* Sync */
 
-	private void attemptToSync() {
+	private void markSlotDirty(int slot) {
 		if (this.world != null && !this.world.isClient()) {
 			this.markDirty();
-			this.sync();
+			SlotSync.markDirty(this, slot);
 		}
 	}
 
+	@Override
+	public ItemStack getSyncedStack(int slot) {
+		return this.books.get(slot);
+	}
+
+	@ClientOnly
+	@Override
+	public void setSyncedStack(int slot, ItemStack stack) {
+		this.books.set(slot, stack);
+	}
+
+	@ClientOnly
+	@Override
+	public void onSlotsSynced() {
+		this.refreshRendering();
+	}
+
 	/* Serialization */
 
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
-		Inventories.readNbt(nbt, this.books);
+		this.readClientNbt(nbt);
+
+		if (this.world != null && this.world.isClient()) {
+			this.refreshRendering();
+		}
 	}
 
 	@Override
 	public void writeNbt(NbtCompound nbt) {
 		super.writeNbt(nbt);
+		this.writeClientNbt(nbt);
+	}
+
+	@Override
+	protected void readClientNbt(NbtCompound nbt) {
+		Inventories.readNbt(nbt, this.books);
+	}
+
+	@Override
+	protected void writeClientNbt(NbtCompound nbt) {
 		Inventories.writeNbt(nbt, this.books);
 	}
 }
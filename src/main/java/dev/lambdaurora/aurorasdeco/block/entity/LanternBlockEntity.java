@@ -18,7 +18,11 @@
 package dev.lambdaurora.aurorasdeco.block.entity;
 
 import dev.lambdaurora.aurorasdeco.block.WallLanternBlock;
+import dev.lambdaurora.aurorasdeco.client.Wind;
+import dev.lambdaurora.aurorasdeco.client.renderer.LanternBlockEntityRenderer;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachmentBlockEntity;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.ShapeContext;
 import net.minecraft.util.math.BlockPos;
@@ -26,6 +30,7 @@ import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 /**
@@ -35,14 +40,26 @@ import org.quiltmc.loader.api.minecraft.ClientOnly;
  * @version 1.0.0
  * @since 1.0.0
  */
-public class LanternBlockEntity extends SwayingBlockEntity {
+public class LanternBlockEntity extends SwayingBlockEntity implements RenderAttachmentBlockEntity {
+	/**
+	 * The period in ticks of the natural swaying of lanterns.
+	 */
+	public static final int NATURAL_SWAY_PERIOD = 125;
+
+	private final int naturalSwayPhase;
 	private Box lanternCollisionBoxX;
 	private Box lanternCollisionBoxZ;
 	public float prevAngle;
 	public float angle;
+	/**
+	 * {@code true} if the lantern is at rest and rendered in the chunk mesh, read from the chunk builder threads.
+	 */
+	private volatile boolean renderedStatically = true;
 
 	public LanternBlockEntity(BlockPos pos, BlockState state) {
 		super(AurorasDecoRegistry.WALL_LANTERN_BLOCK_ENTITY_TYPE, pos, state);
+
+		this.naturalSwayPhase = getNaturalSwayPhase(pos);
 	}
 
 	@Override
@@ -93,21 +110,87 @@ public class LanternBlockEntity extends SwayingBlockEntity {
 		this.updateCollisionBoxes();
 	}
 
+	/* Rendering */
+
+	/**
+	 * {@return {@code true} if the lantern is at rest and rendered as part of the chunk mesh, or {@code false} otherwise}
+	 */
+	public boolean isRenderedStatically() {
+		return this.renderedStatically;
+	}
+
+	@Override
+	public @Nullable Object getRenderAttachmentData() {
+		return this.renderedStatically ? Boolean.TRUE : null;
+	}
+
 	/* Ticking */
 
+	/**
+	 * {@return the phase of the natural swaying of this lantern, between {@code 0} and {@value #NATURAL_SWAY_PERIOD} excluded}
+	 */
+	public int getNaturalSwayPhase() {
+		return this.naturalSwayPhase;
+	}
+
 	@ClientOnly
 	@Override
-	protected void tickClient(World world) {
-		super.tickClient(world);
+	public void tickClient(World world, int ticks) {
+		tickClient(this, world, ticks, Wind.get().getSnapshot().getLanternSwayingAngle(this.naturalSwayPhase),
+				LanternBlockEntityRenderer.isWithinNaturalSwayDistance(this.getPos()));
+	}
+
+	/**
+	 * Ticks the given lantern on the client.
+	 *
+	 * @param lantern the lantern to tick
+	 * @param world the world
+	 * @param ticks the amount of ticks elapsed since the last client tick of the lantern
+	 * @param naturalSwayingAngle the natural swaying angle of the lantern for the current tick
+	 * @param withinNaturalSwayDistance {@code true} if the lantern is close enough to the camera to render its natural swaying,
+	 * or {@code false} otherwise
+	 */
+	public static void tickClient(LanternBlockEntity lantern, World world, int ticks, float naturalSwayingAngle,
+			boolean withinNaturalSwayDistance) {
+		lantern.tickSwing(ticks);
 
-		this.prevAngle = this.angle;
+		lantern.prevAngle = lantern.angle;
 
-		if (this.isSwinging() || this.isColliding()) {
-			float ticks = this.getAdjustedSwingTicks();
-			float shiftedTicks = ticks - 100;
-			this.angle = (shiftedTicks * shiftedTicks) / 5000 * MathHelper.sin(ticks / MathHelper.PI) / (4 + ticks / 3);
+		boolean moving = lantern.isSwinging() || lantern.isColliding();
+		if (moving) {
+			float swingTicks = lantern.getAdjustedSwingTicks();
+			float shiftedTicks = swingTicks - 100;
+			lantern.angle = (shiftedTicks * shiftedTicks) / 5000 * MathHelper.sin(swingTicks / MathHelper.PI) / (4 + swingTicks / 3);
 		} else {
-			this.angle = this.getNaturalSwayingAngle();
+			lantern.angle = lantern.canNaturallySway() ? naturalSwayingAngle : 0.f;
+		}
+
+		lantern.setRenderedStatically(world, !moving && !(lantern.canNaturallySway() && withinNaturalSwayDistance));
+	}
+
+	/**
+	 * Puts the given lantern to rest in the chunk mesh, used when it stops being ticked as it is too far from the camera
+	 * for its natural swaying to be rendered.
+	 * <p>
+	 * Swinging or colliding lanterns keep being rendered dynamically until their swing is over.
+	 *
+	 * @param lantern the lantern to freeze
+	 * @param world the world
+	 * @return {@code true} if the lantern is at rest, or {@code false} if it is still moving
+	 */
+	public static boolean freeze(LanternBlockEntity lantern, World world) {
+		if (lantern.isSwinging() || lantern.isColliding())
+			return false;
+
+		lantern.prevAngle = lantern.angle = 0.f;
+		lantern.setRenderedStatically(world, true);
+		return true;
+	}
+
+	private void setRenderedStatically(World world, boolean renderedStatically) {
+		if (renderedStatically != this.renderedStatically) {
+			this.renderedStatically = renderedStatically;
+			world.updateListeners(this.getPos(), this.getCachedState(), this.getCachedState(), Block.REDRAW_ON_MAIN_THREAD);
 		}
 	}
 
@@ -115,16 +198,33 @@ public class LanternBlockEntity extends SwayingBlockEntity {
 		if (!this.canNaturallySway())
 			return 0.f;
 
-		var pos = this.getPos();
-
 		long time = 0;
 		if (this.getWorld() != null) {
 			time = this.getWorld().getTime();
 		}
 
-		int period = 125;
-		float n = ((float) Math.floorMod(pos.getX() * 7L + pos.getY() * 9L + pos.getZ() * 13L + time, (long) period))
-				/ period;
+		return getNaturalSwayingAngle(this.naturalSwayPhase, time);
+	}
+
+	/**
+	 * Computes the natural swaying angle of a lantern.
+	 *
+	 * @param phase the natural sway phase of the lantern
+	 * @param time the world time
+	 * @return the natural swaying angle
+	 * @see #getNaturalSwayPhase()
+	 */
+	public static float getNaturalSwayingAngle(int phase, long time) {
+		float n = ((float) Math.floorMod(phase + time, (long) NATURAL_SWAY_PERIOD)) / NATURAL_SWAY_PERIOD;
 		return (float) ((.01f * MathHelper.cos((float) (Math.PI * 2 * n))) * Math.PI);
 	}
+
+	/**
+	 * {@return the phase of the natural swaying of a lantern at the given position}
+	 *
+	 * @param pos the position of the lantern
+	 */
+	public static int getNaturalSwayPhase(BlockPos pos) {
+		return (int) Math.floorMod(pos.getX() * 7L + pos.getY() * 9L + pos.getZ() * 13L, (long) NATURAL_SWAY_PERIOD);
+	}
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.block.entity;
+
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+/**
+ * Represents a block entity which bakes part of its rendering into the chunk mesh.
+ * <p>
+ * What is baked is captured when the chunk section is rebuilt, but the block entity renderer only stops rendering it
+ * once the rebuilt mesh has been uploaded, so nothing disappears in between.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface MeshBakedBlockEntity {
+	/**
+	 * Called once the chunk section mesh rebuilt with the contents of this block entity has been uploaded.
+	 */
+	@ClientOnly
+	void onChunkMeshUploaded();
+}
@@ -18,9 +18,14 @@
 package dev.lambdaurora.aurorasdeco.block.entity;
 
 import dev.lambdaurora.aurorasdeco.block.ShelfBlock;
+import dev.lambdaurora.aurorasdeco.client.RenderRule;
+import dev.lambdaurora.aurorasdeco.client.model.BakedShelfModel;
+import dev.lambdaurora.aurorasdeco.client.model.BakedSlotTracker;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import dev.lambdaurora.aurorasdeco.screen.ShelfScreenHandler;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachmentBlockEntity;
 import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerFactory;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.LootableContainerBlockEntity;
 import net.minecraft.entity.player.PlayerEntity;
@@ -35,6 +40,8 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.collection.DefaultedList;
 import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.quiltmc.qsl.block.entity.api.QuiltBlockEntity;
 
 /**
@@ -45,9 +52,14 @@ import org.quiltmc.qsl.block.entity.api.QuiltBlockEntity;
  * @since 1.0.0
  */
 public class ShelfBlockEntity extends LootableContainerBlockEntity
-		implements ExtendedScreenHandlerFactory, QuiltBlockEntity {
+		implements ExtendedScreenHandlerFactory, QuiltBlockEntity, RenderAttachmentBlockEntity, MeshBakedBlockEntity,
+		SlotSyncedBlockEntity {
 	private DefaultedList<ItemStack> inventory;
 	private boolean locked;
+	@ClientOnly
+	private RenderRule.ModelSelection modelSelection;
+	@ClientOnly
+	private BakedSlotTracker bakedSlots;
 
 	public ShelfBlockEntity(BlockPos pos, BlockState state) {
 		super(AurorasDecoRegistry.SHELF_BLOCK_ENTITY_TYPE, pos, state);
@@ -58,6 +70,75 @@ public class ShelfBlockEntity extends LootableContainerBlockEntity
 		return this.locked;
 	}
 
+	@ClientOnly
+	public RenderRule.ModelSelection getModelSelection() {
+		if (this.modelSelection == null) {
+			this.modelSelection = new RenderRule.ModelSelection(this.size());
+		}
+
+		return this.modelSelection;
+	}
+
+	/* Rendering */
+
+	@ClientOnly
+	public BakedSlotTracker getBakedSlots() {
+		if (this.bakedSlots == null) {
+			this.bakedSlots = new BakedSlotTracker();
+		}
+
+		return this.bakedSlots;
+	}
+
+	/**
+	 * {@return {@code true} if the item in the given slot is baked in the chunk mesh, or {@code false} otherwise}
+	 *
+	 * @param slot the slot
+	 */
+	@ClientOnly
+	public boolean isRenderedStatically(int slot) {
+		return this.getBakedSlots().contains(slot);
+	}
+
+	@ClientOnly
+	@Override
+	public @Nullable Object getRenderAttachmentData() {
+		// Only queried when the chunk section is rebuilt.
+		return BakedShelfModel.Contents.of(this);
+	}
+
+	@ClientOnly
+	@Override
+	public void onChunkMeshUploaded() {
+		this.getBakedSlots().onUploaded();
+	}
+
+	@ClientOnly
+	private void refreshRendering() {
+		// Render every item dynamically until the chunk section is rebuilt with the new contents.
+		this.getBakedSlots().invalidate();
+		this.world.updateListeners(this.getPos(), this.getCachedState(), this.getCachedState(), Block.REDRAW_ON_MAIN_THREAD);
+	}
+
+	/* Sync */
+
+	@Override
+	public ItemStack getSyncedStack(int slot) {
+		return this.inventory.get(slot);
+	}
+
+	@ClientOnly
+	@Override
+	public void setSyncedStack(int slot, ItemStack stack) {
+		this.inventory.set(slot, stack);
+	}
+
+	@ClientOnly
+	@Override
+	public void onSlotsSynced() {
+		this.refreshRendering();
+	}
+
 	@Override
 	protected Text getContainerName() {
 		return Text.translatable(this.getCachedState().getBlock().getTranslationKey());
@@ -79,6 +160,10 @@ public class ShelfBlockEntity extends LootableContainerBlockEntity
 		}
 
 		this.locked = nbt.getBoolean("locked");
+
+		if (this.world != null && this.world.isClient()) {
+			this.refreshRendering();
+		}
 	}
 
 	@Override
@@ -91,9 +176,23 @@ public class ShelfBlockEntity extends LootableContainerBlockEntity
 		nbt.putBoolean("locked", this.locked);
 	}
 
+	/**
+	 * Writes the data clients need to render and interact with this shelf.
+	 * <p>
+	 * The loot table is never needed by the client, only the displayed items.
+	 *
+	 * @param nbt the NBT to write to
+	 */
+	protected void writeClientNbt(NbtCompound nbt) {
+		Inventories.writeNbt(nbt, this.inventory);
+		nbt.putBoolean("locked", this.locked);
+	}
+
 	@Override
 	public NbtCompound toSyncedNbt() {
-		return this.toNbt();
+		var nbt = new NbtCompound();
+		this.writeClientNbt(nbt);
+		return nbt;
 	}
 
 	@Override
@@ -108,12 +207,30 @@ public class ShelfBlockEntity extends LootableContainerBlockEntity
 		return 8;
 	}
 
+	@Override
+	public ItemStack removeStack(int slot, int amount) {
+		var stack = super.removeStack(slot, amount);
+
+		if (!stack.isEmpty())
+			SlotSync.markDirty(this, slot);
+
+		return stack;
+	}
+
+	@Override
+	public ItemStack removeStack(int slot) {
+		var stack = super.removeStack(slot);
+
+		if (!stack.isEmpty())
+			SlotSync.markDirty(this, slot);
+
+		return stack;
+	}
+
 	@Override
 	public void setStack(int slot, ItemStack stack) {
 		super.setStack(slot, stack);
-
-		if (this.world != null && !this.world.isClient())
-			this.sync();
+		SlotSync.markDirty(this, slot);
 	}
 
 	@Override
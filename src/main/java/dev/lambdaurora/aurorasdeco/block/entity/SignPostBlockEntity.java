@@ -168,7 +168,7 @@ public class SignPostBlockEntity extends BasicBlockEntity {
 	private void attemptToSync() {
 		if (this.world != null && !this.world.isClient()) {
 			this.markDirty();
-			this.sync();
+			this.markSyncDirty();
 		}
 	}
 
@@ -177,9 +177,9 @@ public class SignPostBlockEntity extends BasicBlockEntity {
 	@Override
 	public void readNbt(NbtCompound nbt) {
 		super.readNbt(nbt);
-		this.readSignPostNbt(nbt);
-		this.waxed = nbt.getBoolean("waxed");
+		this.readClientNbt(nbt);
 
+		// Generation settings are only known by the server.
 		if (nbt.contains("generation_settings", NbtElement.COMPOUND_TYPE)) {
 			this.generationSettings = GenerationSettings.fromNbt(nbt.getCompound("generation_settings"));
 		}
@@ -188,15 +188,15 @@ public class SignPostBlockEntity extends BasicBlockEntity {
 	@Override
 	public void writeNbt(NbtCompound nbt) {
 		super.writeNbt(nbt);
-		this.writeSignPostNbt(nbt);
-		nbt.putBoolean("waxed", this.waxed);
+		this.writeClientNbt(nbt);
 
 		if (this.generationSettings != null) {
 			nbt.put("generation_settings", this.generationSettings.toNbt());
 		}
 	}
 
-	private void readSignPostNbt(NbtCompound nbt) {
+	@Override
+	protected void readClientNbt(NbtCompound nbt) {
 		if (nbt.contains("up_sign", NbtElement.COMPOUND_TYPE)) {
 			this.up = this.getSignFromNbt(nbt.getCompound("up_sign"));
 		} else this.up = null;
@@ -204,15 +204,18 @@ public class SignPostBlockEntity extends BasicBlockEntity {
 		if (nbt.contains("down_sign", NbtElement.COMPOUND_TYPE)) {
 			this.down = this.getSignFromNbt(nbt.getCompound("down_sign"));
 		} else this.down = null;
+
+		this.waxed = nbt.getBoolean("waxed");
 	}
 
-	private NbtCompound writeSignPostNbt(NbtCompound nbt) {
+	@Override
+	protected void writeClientNbt(NbtCompound nbt) {
 		if (this.up != null)
 			nbt.put("up_sign", this.up.toNbt());
 		if (this.down != null)
 			nbt.put("down_sign", this.down.toNbt());
 
-		return nbt;
+		nbt.putBoolean("waxed", this.waxed);
 	}
 
 	private static Text unparsedTextFromJson(String json) {
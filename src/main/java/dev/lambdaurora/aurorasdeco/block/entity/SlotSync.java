@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.block.entity;
+
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMaps;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.quiltmc.qsl.networking.api.PacketByteBufs;
+import org.quiltmc.qsl.networking.api.PlayerLookup;
+import org.quiltmc.qsl.networking.api.ServerPlayNetworking;
+
+/**
+ * Syncs the changed slots of {@linkplain SlotSyncedBlockEntity slot-synced block entities} to the tracking players.
+ * <p>
+ * The slots changed during a tick are accumulated per block entity, and only those are sent at the end of the tick,
+ * in a single packet per block entity.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotSync {
+	private static final Reference2IntMap<BlockEntity> PENDING_SYNCS = new Reference2IntOpenHashMap<>();
+
+	private SlotSync() {
+		throw new UnsupportedOperationException("SlotSync only contains static definitions.");
+	}
+
+	/**
+	 * Marks the given slot of the given block entity as changed, to be synced at the end of the tick.
+	 *
+	 * @param blockEntity the block entity
+	 * @param slot the changed slot, between {@code 0} and {@code 31}
+	 * @param <T> the type of the block entity
+	 */
+	public static <T extends BlockEntity & SlotSyncedBlockEntity> void markDirty(T blockEntity, int slot) {
+		if (blockEntity.getWorld() instanceof ServerWorld) {
+			PENDING_SYNCS.put(blockEntity, PENDING_SYNCS.getInt(blockEntity) | (1 << slot));
+		}
+	}
+
+	/**
+	 * Sends the changed slots of every block entity modified during this tick to the tracking players.
+	 */
+	public static void flushPendingSyncs() {
+		if (PENDING_SYNCS.isEmpty())
+			return;
+
+		for (var entry : Reference2IntMaps.fastIterable(PENDING_SYNCS)) {
+			var blockEntity = entry.getKey();
+
+			if (!blockEntity.isRemoved() && blockEntity.getWorld() instanceof ServerWorld) {
+				flushSync(blockEntity, entry.getIntValue());
+			}
+		}
+		PENDING_SYNCS.clear();
+	}
+
+	private static void flushSync(BlockEntity blockEntity, int slots) {
+		var players = PlayerLookup.tracking(blockEntity);
+		if (players.isEmpty())
+			return;
+
+		var syncedBlockEntity = (SlotSyncedBlockEntity) blockEntity;
+
+		var buf = PacketByteBufs.create();
+		buf.writeBlockPos(blockEntity.getPos());
+		buf.writeVarInt(Integer.bitCount(slots));
+
+		for (int slot = 0; slots != 0; slot++, slots >>>= 1) {
+			if ((slots & 1) != 0) {
+				buf.writeByte(slot);
+				buf.writeItemStack(syncedBlockEntity.getSyncedStack(slot));
+			}
+		}
+
+		var packet = ServerPlayNetworking.createS2CPacket(AurorasDecoPackets.BLOCK_ENTITY_SLOTS, buf);
+		for (var player : players) {
+			player.networkHandler.sendPacket(packet);
+		}
+	}
+}
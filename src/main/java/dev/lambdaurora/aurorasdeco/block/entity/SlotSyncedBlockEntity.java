@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.block.entity;
+
+import net.minecraft.item.ItemStack;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+/**
+ * Represents a block entity displaying items, whose changed slots are synced individually to the clients.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see SlotSync
+ */
+public interface SlotSyncedBlockEntity {
+	/**
+	 * {@return the stack of the given slot to sync}
+	 *
+	 * @param slot the slot
+	 */
+	ItemStack getSyncedStack(int slot);
+
+	/**
+	 * Sets the stack of the given slot, as synced by the server.
+	 *
+	 * @param slot the slot
+	 * @param stack the synced stack
+	 */
+	@ClientOnly
+	void setSyncedStack(int slot, ItemStack stack);
+
+	/**
+	 * Called once every slot synced by a packet has been set.
+	 */
+	@ClientOnly
+	void onSlotsSynced();
+}
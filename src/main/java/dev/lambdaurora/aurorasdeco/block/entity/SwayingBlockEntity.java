@@ -17,20 +17,35 @@
 
 package dev.lambdaurora.aurorasdeco.block.entity;
 
+import dev.lambdaurora.aurorasdeco.client.SwayScheduler;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.LightType;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.BlockEntityTickInvoker;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 import java.util.Set;
 
+/**
+ * Represents a block entity which can sway, either naturally with the wind or when hit.
+ * <p>
+ * On the server, swaying block entities are dormant while idle: they are only ticked while swinging or colliding.
+ * The idle swing ticks are caught up when waking up, so the comparator output stays the same as if they were always ticked.
+ * On the client, they are ticked by the {@link SwayScheduler} depending on their distance to the camera.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
 public abstract class SwayingBlockEntity extends BlockEntity {
 	protected boolean naturalSway = false;
 	private int swingTicks;
@@ -38,11 +53,57 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 	private Direction swingBaseDirection;
 	private boolean colliding = false;
 	private final Set<Entity> collisions = new ObjectOpenHashSet<>();
+	/**
+	 * The active server ticker, or {@code null} if dormant.
+	 */
+	private @Nullable ServerTicker ticker;
+	/**
+	 * The world time at which this block entity became dormant.
+	 */
+	private long dormantSince;
 
 	public SwayingBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
 		super(type, pos, state);
 	}
 
+	@Override
+	public void setWorld(World world) {
+		super.setWorld(world);
+		this.dormantSince = world.getTime();
+
+		if (world.isClient()) {
+			SwayScheduler.add(this);
+		}
+	}
+
+	@Override
+	public void markRemoved() {
+		super.markRemoved();
+
+		if (this.ticker != null) {
+			// The world drops the ticker of a removed block entity, go dormant so it can be woken up again.
+			this.ticker = null;
+
+			if (this.world != null)
+				this.dormantSince = this.world.getTime();
+		}
+
+		if (this.world != null && this.world.isClient()) {
+			SwayScheduler.remove(this);
+		}
+	}
+
+	@Override
+	public void cancelRemoval() {
+		super.cancelRemoval();
+
+		if (this.world != null && this.world.isClient()) {
+			SwayScheduler.add(this);
+		} else if (!this.isIdle()) {
+			this.wakeUp();
+		}
+	}
+
 	/**
 	 * Returns whether this block entity can naturally sway.
 	 *
@@ -110,6 +171,7 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 	 */
 	public void activate(Direction direction) {
 		var blockPos = this.getPos();
+		this.wakeUp();
 		this.swingBaseDirection = direction;
 		if (this.swinging) {
 			if (this.isColliding())
@@ -130,6 +192,7 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 	 * @param entity the entity who made the swaying block entity swing
 	 */
 	public void activate(Direction direction, Entity entity) {
+		this.wakeUp();
 		this.collisions.add(entity);
 		this.colliding = true;
 		this.getWorld().addSyncedBlockEvent(this.getPos(), this.getCachedState().getBlock(), 2, 1);
@@ -184,6 +247,37 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 
 	/* Ticking */
 
+	/**
+	 * {@return {@code true} if this block entity is dormant on the server, or {@code false} otherwise}
+	 */
+	public boolean isDormant() {
+		return this.ticker == null;
+	}
+
+	/**
+	 * {@return {@code true} if this block entity has nothing to tick on the server, or {@code false} otherwise}
+	 */
+	private boolean isIdle() {
+		return !this.swinging && !this.colliding && this.collisions.isEmpty();
+	}
+
+	/**
+	 * Wakes up this block entity on the server so it gets ticked until it is idle again.
+	 */
+	private void wakeUp() {
+		if (!(this.getWorld() instanceof ServerWorld world) || this.ticker != null)
+			return;
+
+		// Catch up the swing ticks counted while idle, the last one is counted by the upcoming tick.
+		long elapsed = world.getTime() - this.dormantSince;
+		if (elapsed > 1) {
+			this.swingTicks = (int) ((this.swingTicks + elapsed - 1) % this.getMaxSwingTicks());
+		}
+
+		this.ticker = new ServerTicker(this);
+		world.addBlockEntityTicker(this.ticker);
+	}
+
 	private void tick() {
 		++this.swingTicks;
 
@@ -197,14 +291,35 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 		}
 	}
 
-	@ClientOnly
-	protected void tickClient(World world) {
+	/**
+	 * Updates whether this block entity is exposed enough to the sky to naturally sway.
+	 *
+	 * @param world the world
+	 */
+	public void updateSkyExposure(World world) {
 		this.naturalSway = world.getLightLevel(LightType.SKY, this.pos) >= 12;
-		this.tick();
 	}
 
-	public static void clientTick(World world, BlockPos pos, BlockState state, SwayingBlockEntity swayingBlockEntity) {
-		swayingBlockEntity.tickClient(world);
+	/**
+	 * Ticks this block entity on the client, scheduled by the {@link SwayScheduler}.
+	 *
+	 * @param world the world
+	 * @param ticks the amount of ticks elapsed since the last client tick of this block entity
+	 */
+	@ClientOnly
+	public void tickClient(World world, int ticks) {
+		this.tickSwing(ticks);
+	}
+
+	/**
+	 * Advances the swinging of this block entity.
+	 *
+	 * @param ticks the amount of ticks to advance
+	 */
+	protected final void tickSwing(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			this.tick();
+		}
 	}
 
 	public static void serverTick(World world, BlockPos pos, BlockState state, SwayingBlockEntity swayingBlockEntity) {
@@ -240,5 +355,45 @@ public abstract class SwayingBlockEntity extends BlockEntity {
 				world.updateComparators(pos, state.getBlock());
 			}
 		}
+
+		if (swayingBlockEntity.isIdle()) {
+			// While idle, the comparator output doesn't depend on the swing ticks, they are caught up on wake up.
+			swayingBlockEntity.ticker = null;
+			swayingBlockEntity.dormantSince = world.getTime();
+		}
+	}
+
+	/**
+	 * Represents the ticker of an awake swaying block entity,
+	 * removed from the world ticking block entities once the block entity goes dormant.
+	 *
+	 * @param blockEntity the swaying block entity
+	 */
+	private record ServerTicker(SwayingBlockEntity blockEntity) implements BlockEntityTickInvoker {
+		@Override
+		public void tick() {
+			var world = this.blockEntity.getWorld();
+			var pos = this.blockEntity.getPos();
+
+			// Like the vanilla block entity tickers, only tick in chunks which tick their blocks.
+			if (world != null && !this.isRemoved() && world.shouldTickBlockPos(pos)) {
+				serverTick(world, pos, this.blockEntity.getCachedState(), this.blockEntity);
+			}
+		}
+
+		@Override
+		public boolean isRemoved() {
+			return this.blockEntity.isRemoved() || this.blockEntity.ticker != this;
+		}
+
+		@Override
+		public BlockPos getPos() {
+			return this.blockEntity.getPos();
+		}
+
+		@Override
+		public String getName() {
+			return String.valueOf(BlockEntityType.getId(this.blockEntity.getType()));
+		}
 	}
 }
@@ -20,6 +20,7 @@ package dev.lambdaurora.aurorasdeco.block.entity;
 import dev.lambdaurora.aurorasdeco.block.WindChimeBlock;
 import dev.lambdaurora.aurorasdeco.client.Wind;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import dev.lambdaurora.aurorasdeco.world.WindField;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
@@ -62,42 +63,56 @@ public class WindChimeBlockEntity extends SwayingBlockEntity {
 
 	@ClientOnly
 	@Override
-	protected void tickClient(World world) {
-		super.tickClient(world);
+	public void tickClient(World world, int ticks) {
+		tickClient(this, ticks, Wind.get().getSnapshot());
+	}
+
+	/**
+	 * Ticks the given wind chime on the client.
+	 *
+	 * @param windChime the wind chime to tick
+	 * @param ticks the amount of ticks elapsed since the last client tick of the wind chime
+	 * @param wind the wind of the current tick
+	 */
+	@ClientOnly
+	public static void tickClient(WindChimeBlockEntity windChime, int ticks, Wind.Snapshot wind) {
+		windChime.tickSwing(ticks);
 
-		this.prevPitch = this.pitch;
-		this.prevRoll = this.roll;
+		windChime.prevPitch = windChime.pitch;
+		windChime.prevRoll = windChime.roll;
 
-		if (!this.canNaturallySway()) {
-			this.pitch = 0.f;
-			this.roll = 0.f;
+		if (!windChime.canNaturallySway()) {
+			windChime.pitch = 0.f;
+			windChime.roll = 0.f;
 		} else {
-			var wind = Wind.get();
-			this.pitch = MathHelper.sin(-wind.getWindZ()) * 0.85f;
-			this.roll = MathHelper.sin(wind.getWindX()) * 0.85f;
-
-			if (wind.getState() == Wind.State.STORMY) {
-				this.pitch += MathHelper.sin((this.prevPitch - this.pitch) * this.getSwingTicks() / 4.f) * 0.02f;
-				this.roll += MathHelper.sin((this.prevRoll - this.roll) * this.getSwingTicks() / 4.f) * 0.02f;
+			double x = windChime.getPos().getX() + .5;
+			double z = windChime.getPos().getZ() + .5;
+			windChime.pitch = wind.getWindChimePitch(x, z);
+			windChime.roll = wind.getWindChimeRoll(x, z);
+
+			float swingTicks = windChime.getSwingTicks();
+			if (wind.state() == WindField.State.STORMY) {
+				windChime.pitch += MathHelper.sin((windChime.prevPitch - windChime.pitch) * swingTicks / 4.f) * 0.02f;
+				windChime.roll += MathHelper.sin((windChime.prevRoll - windChime.roll) * swingTicks / 4.f) * 0.02f;
 			} else {
-				this.pitch += MathHelper.sin((this.prevPitch - this.pitch) * this.getSwingTicks() / 5.f) * 0.015f;
-				this.roll += MathHelper.sin((this.prevRoll - this.roll) * this.getSwingTicks() / 5.f) * 0.015f;
+				windChime.pitch += MathHelper.sin((windChime.prevPitch - windChime.pitch) * swingTicks / 5.f) * 0.015f;
+				windChime.roll += MathHelper.sin((windChime.prevRoll - windChime.roll) * swingTicks / 5.f) * 0.015f;
 			}
 		}
 
-		if (this.isSwinging() || this.isColliding()) {
-			float ticks = this.getAdjustedSwingTicks();
-			float shiftedTicks = ticks - 100;
+		if (windChime.isSwinging() || windChime.isColliding()) {
+			float swingTicks = windChime.getAdjustedSwingTicks();
+			float shiftedTicks = swingTicks - 100;
 
-			this.pitch *= ticks / this.getMaxSwingTicks();
-			this.roll *= ticks / this.getMaxSwingTicks();
-			float angle = (shiftedTicks * shiftedTicks) / 5000 * MathHelper.sin(ticks / MathHelper.PI) / (4 + ticks / 3);
+			windChime.pitch *= swingTicks / windChime.getMaxSwingTicks();
+			windChime.roll *= swingTicks / windChime.getMaxSwingTicks();
+			float angle = (shiftedTicks * shiftedTicks) / 5000 * MathHelper.sin(swingTicks / MathHelper.PI) / (4 + swingTicks / 3);
 
-			switch (this.getSwingBaseDirection()) {
-				case NORTH -> this.pitch -= angle;
-				case SOUTH -> this.pitch += angle;
-				case EAST -> this.roll -= angle;
-				case WEST -> this.roll += angle;
+			switch (windChime.getSwingBaseDirection()) {
+				case NORTH -> windChime.pitch -= angle;
+				case SOUTH -> windChime.pitch += angle;
+				case EAST -> windChime.roll -= angle;
+				case WEST -> windChime.roll += angle;
 			}
 		}
 	}
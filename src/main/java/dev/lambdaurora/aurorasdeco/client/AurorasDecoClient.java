@@ -24,7 +24,6 @@ import dev.lambdaurora.aurorasdeco.block.HangingFlowerPotBlock;
 import dev.lambdaurora.aurorasdeco.block.SignPostBlock;
 import dev.lambdaurora.aurorasdeco.block.StumpBlock;
 import dev.lambdaurora.aurorasdeco.block.big_flower_pot.PottedPlantType;
-import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
 import dev.lambdaurora.aurorasdeco.client.model.*;
 import dev.lambdaurora.aurorasdeco.client.particle.AmethystGlintParticle;
 import dev.lambdaurora.aurorasdeco.client.particle.LavenderPetalParticle;
@@ -42,6 +41,8 @@ import net.fabricmc.fabric.api.client.rendering.v1.BuiltinItemRendererRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityModelLayerRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import net.minecraft.block.Block;
 import net.minecraft.block.TallPlantBlock;
 import net.minecraft.client.color.world.BiomeColors;
@@ -61,6 +62,7 @@ import org.quiltmc.qsl.base.api.entrypoint.client.ClientModInitializer;
 import org.quiltmc.qsl.block.extensions.api.client.BlockRenderLayerMap;
 import org.quiltmc.qsl.lifecycle.api.client.event.ClientLifecycleEvents;
 import org.quiltmc.qsl.lifecycle.api.client.event.ClientWorldTickEvents;
+import org.quiltmc.qsl.networking.api.client.ClientPlayConnectionEvents;
 import org.quiltmc.qsl.networking.api.client.ClientPlayNetworking;
 import org.quiltmc.qsl.resource.loader.api.ResourceLoader;
 
@@ -90,6 +92,14 @@ public class AurorasDecoClient implements ClientModInitializer {
 		ParticleFactoryRegistry.getInstance().register(AurorasDecoParticles.COPPER_SULFATE_LAVA, LavaEmberParticle.Factory::new);
 		ParticleFactoryRegistry.getInstance().register(AurorasDecoParticles.LAVENDER_PETAL, LavenderPetalParticle.Factory::new);
 
+		ClientPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.BLOCK_ENTITY_SLOTS, AurorasDecoPackets.Client::handleBlockEntitySlotsPacket);
+
+		/* Blackboards */
+		ClientPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.BLACKBOARD_IMAGES, AurorasDecoPackets.Client::handleBlackboardImagesPacket);
+		ClientPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.BLACKBOARD_PIXELS, AurorasDecoPackets.Client::handleBlackboardPixelsPacket);
+		ClientPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.WIND_STATE, AurorasDecoPackets.Client::handleWindStatePacket);
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> Wind.get().clearServerFields());
+
 		/* Signs */
 		ClientPlayNetworking.registerGlobalReceiver(AurorasDecoPackets.SIGN_POST_OPEN_GUI, AurorasDecoPackets.Client::handleSignPostOpenGuiPacket);
 
@@ -134,6 +144,15 @@ public class AurorasDecoClient implements ClientModInitializer {
 		});
 
 		ClientWorldTickEvents.START.register((client, world) -> Wind.get().tick(world));
+		ClientWorldTickEvents.END.register((client, world) -> {
+			SwayScheduler.tick(world);
+			BlackboardImageCache.flushRequests();
+			BlackboardMeshManager.flushRedraws();
+		});
+		WorldRenderEvents.START.register(context -> {
+			BlackboardTexture.startFrame();
+			BlackboardMeshManager.tick();
+		});
 
 		this.registerBlackboardItemRenderer(BLACKBOARD_BLOCK);
 		this.registerBlackboardItemRenderer(CHALKBOARD_BLOCK);
@@ -166,6 +185,8 @@ public class AurorasDecoClient implements ClientModInitializer {
 				}
 		);
 
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> RenderRule.invalidate());
+
 		ModelLoadingPlugin.register(context -> {
 			RenderRule.addModels(context);
 
@@ -186,6 +207,12 @@ public class AurorasDecoClient implements ClientModInitializer {
 						}
 					} else if (modelId.getPath().startsWith("hanging_flower_pot")) {
 						return new UnbakedForwardingModel(model, BakedHangingFlowerPotModel::new);
+					} else if (modelId.getPath().startsWith("wall_lantern")) {
+						return new UnbakedForwardingModel(model, BakedWallLanternModel::new);
+					} else if (modelId.getPath().startsWith("shelf/")) {
+						return new UnbakedForwardingModel(model, BakedShelfModel::new);
+					} else if (modelId.getPath().equals("book_pile")) {
+						return new UnbakedForwardingModel(model, BakedBookPileModel::new);
 					} else if (modelId.getPath().endsWith("board")) {
 						return UnbakedBlackboardModel.of(modelId, model,
 								(partId, m) -> {
@@ -199,7 +226,7 @@ public class AurorasDecoClient implements ClientModInitializer {
 				return model;
 			});
 
-			BlackboardBlockEntity.markAllMeshesDirty();
+			BlackboardMeshManager.invalidateAll();
 		});
 	}
 
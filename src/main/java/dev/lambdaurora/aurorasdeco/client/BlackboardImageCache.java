@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client;
+
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImage;
+import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+import org.quiltmc.qsl.networking.api.PacketByteBufs;
+import org.quiltmc.qsl.networking.api.client.ClientPlayNetworking;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches the blackboard images received from the server by their identifier.
+ * <p>
+ * Placed blackboards are synced with the identifier of their image, the image itself is only requested
+ * if it is not known yet. Blackboards with the same image share the same pixels, meshes and textures.
+ * <p>
+ * The images decoded from item stacks are interned here as well, so that stacks share the pixels of identical placed blackboards.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class BlackboardImageCache {
+	private static final int MAX_CACHED_IMAGES = 1024;
+
+	private static final Map<Integer, BlackboardImage> IMAGES = new LinkedHashMap<>(16, .75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, BlackboardImage> eldest) {
+			return this.size() > MAX_CACHED_IMAGES;
+		}
+	};
+	/**
+	 * The known images by content, used to give identical images the same instance.
+	 */
+	private static final Map<BlackboardImage, BlackboardImage> INTERNED = new LinkedHashMap<>(16, .75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<BlackboardImage, BlackboardImage> eldest) {
+			return this.size() > MAX_CACHED_IMAGES;
+		}
+	};
+	/**
+	 * The blackboards waiting for an image, by image identifier.
+	 */
+	private static final Int2ObjectMap<List<BlackboardBlockEntity>> WAITING = new Int2ObjectOpenHashMap<>();
+	/**
+	 * The images to request, with the position of a blackboard holding it.
+	 */
+	private static final Int2ObjectMap<BlockPos> REQUESTS = new Int2ObjectOpenHashMap<>();
+
+	private BlackboardImageCache() {
+		throw new UnsupportedOperationException("BlackboardImageCache only contains static definitions.");
+	}
+
+	/**
+	 * {@return the cached image of the given identifier, or {@code null} if it is not known yet}
+	 *
+	 * @param id the image identifier
+	 */
+	public static @Nullable BlackboardImage get(int id) {
+		return IMAGES.get(id);
+	}
+
+	/**
+	 * Interns the given image, identical images are given the same instance.
+	 *
+	 * @param image the image
+	 * @return the known instance identical to the given image, or the given image if none
+	 */
+	public static BlackboardImage intern(BlackboardImage image) {
+		var interned = INTERNED.putIfAbsent(image, image);
+		return interned != null ? interned : image;
+	}
+
+	/**
+	 * Requests the image of the given identifier for the given blackboard.
+	 * <p>
+	 * The blackboard is given the image once it has been received.
+	 *
+	 * @param id the image identifier
+	 * @param blackboard the blackboard waiting for the image
+	 */
+	public static void request(int id, BlackboardBlockEntity blackboard) {
+		var waiting = WAITING.get(id);
+
+		if (waiting == null) {
+			waiting = new ArrayList<>();
+			WAITING.put(id, waiting);
+			REQUESTS.put(id, blackboard.getPos().toImmutable());
+		}
+
+		waiting.add(blackboard);
+	}
+
+	/**
+	 * Sends the pending image requests to the server.
+	 */
+	public static void flushRequests() {
+		if (REQUESTS.isEmpty())
+			return;
+
+		var iterator = REQUESTS.int2ObjectEntrySet().iterator();
+		while (iterator.hasNext()) {
+			var buf = PacketByteBufs.create();
+			int count = Math.min(REQUESTS.size(), AurorasDecoPackets.MAX_BLACKBOARD_IMAGE_REQUESTS);
+			buf.writeVarInt(count);
+
+			for (int i = 0; i < count; i++) {
+				var entry = iterator.next();
+				iterator.remove();
+				buf.writeVarInt(entry.getIntKey());
+				buf.writeBlockPos(entry.getValue());
+			}
+
+			ClientPlayNetworking.send(AurorasDecoPackets.BLACKBOARD_IMAGE_REQUEST, buf);
+		}
+	}
+
+	/**
+	 * Handles the response of the server to an image request.
+	 * <p>
+	 * The received image is the current image of the requested blackboard,
+	 * which may differ from the requested one if that blackboard has been modified since.
+	 * In that case, the other blackboards waiting for the requested image request it again from their own position.
+	 * <p>
+	 * The server refuses to give the image of a blackboard the player doesn't track, for example at the edge of the view distance.
+	 * The requested blackboard then stops waiting, the server syncs it again once the player tracks it.
+	 *
+	 * @param requestedId the requested image identifier
+	 * @param pos the position of the requested blackboard
+	 * @param id the received image identifier
+	 * @param image the received image, or {@code null} if there is no blackboard at the requested position anymore
+	 */
+	public static void onImageReceived(int requestedId, BlockPos pos, int id, @Nullable BlackboardImage image) {
+		if (image != null) {
+			image = intern(image);
+			IMAGES.put(id, image);
+		}
+
+		var waiting = WAITING.remove(requestedId);
+		if (waiting == null)
+			return;
+
+		var remaining = new ArrayList<BlackboardBlockEntity>();
+		for (var blackboard : waiting) {
+			if (blackboard.isRemoved())
+				continue;
+
+			if (blackboard.getPos().equals(pos)) {
+				if (image != null) {
+					blackboard.onImageReceived(requestedId, image);
+				} else {
+					// The server refused, the image is requested again once the blackboard is synced again.
+					blackboard.onImageRefused(requestedId);
+				}
+			} else if (image != null && id == requestedId) {
+				blackboard.onImageReceived(requestedId, image);
+			} else {
+				remaining.add(blackboard);
+			}
+		}
+
+		if (!remaining.isEmpty()) {
+			WAITING.put(requestedId, remaining);
+			REQUESTS.put(requestedId, remaining.get(0).getPos().toImmutable());
+		}
+	}
+
+	/**
+	 * Forgets every image, used when the world changes.
+	 */
+	public static void clear() {
+		IMAGES.clear();
+		INTERNED.clear();
+		WAITING.clear();
+		REQUESTS.clear();
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client;
+
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImage;
+import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.minecraft.client.render.LightmapTextureManager;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the meshes of placed blackboards in the background of rendering.
+ * <p>
+ * Blackboards request their mesh, which is either reused from the meshes of identical drawings
+ * or queued to be built at the start of a next frame, within a per-frame time budget.
+ * Until then, the blackboard keeps rendering its previous mesh.
+ * <p>
+ * Updated blackboards are re-rendered at the end of the tick, once per chunk section no matter how many of its blackboards were updated.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class BlackboardMeshManager {
+	/**
+	 * The time budget per frame for building meshes, in nanoseconds.
+	 */
+	private static final long FRAME_BUDGET = 2_000_000L;
+	private static final int MAX_CACHED_MESHES = 512;
+
+	/**
+	 * The blackboards of the client world, whose meshes are rebuilt once invalidated.
+	 */
+	private static final Set<BlackboardBlockEntity> ACTIVE_BLACKBOARDS = new ReferenceOpenHashSet<>();
+	private static final ReferenceLinkedOpenHashSet<BlackboardBlockEntity> QUEUE = new ReferenceLinkedOpenHashSet<>();
+	/**
+	 * The chunk sections to re-render, with one of their updated blackboards.
+	 */
+	private static final Long2ObjectMap<BlackboardBlockEntity> PENDING_REDRAWS = new Long2ObjectOpenHashMap<>();
+	private static final Map<MeshKey, Mesh> MESHES = new LinkedHashMap<>(16, .75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<MeshKey, Mesh> eldest) {
+			return this.size() > MAX_CACHED_MESHES;
+		}
+	};
+	/**
+	 * {@code true} if every mesh has to be rebuilt, may be set from the resource reload threads.
+	 */
+	private static volatile boolean invalidated;
+
+	private BlackboardMeshManager() {
+		throw new UnsupportedOperationException("BlackboardMeshManager only contains static definitions.");
+	}
+
+	/**
+	 * Tracks the given blackboard, which has been added to the client world.
+	 *
+	 * @param blackboard the blackboard
+	 */
+	public static void track(BlackboardBlockEntity blackboard) {
+		ACTIVE_BLACKBOARDS.add(blackboard);
+	}
+
+	/**
+	 * Stops tracking the given blackboard, which has been removed from the client world.
+	 *
+	 * @param blackboard the blackboard
+	 */
+	public static void untrack(BlackboardBlockEntity blackboard) {
+		ACTIVE_BLACKBOARDS.remove(blackboard);
+	}
+
+	/**
+	 * Requests the mesh of the given blackboard to be updated.
+	 * <p>
+	 * If the mesh of an identical drawing is known, it is given to the blackboard immediately.
+	 * Otherwise, the mesh is queued to be built in a next frame.
+	 *
+	 * @param blackboard the blackboard
+	 * @return {@code true} if the mesh has been updated immediately, or {@code false} if it has been queued
+	 */
+	public static boolean request(BlackboardBlockEntity blackboard) {
+		if (!invalidated) {
+			var mesh = MESHES.get(blackboard.getMeshKey());
+
+			if (mesh != null) {
+				QUEUE.remove(blackboard);
+				blackboard.setMesh(mesh);
+				return true;
+			}
+		}
+
+		QUEUE.add(blackboard);
+		return false;
+	}
+
+	/**
+	 * Gets the mesh of the given drawing, building it immediately if it is not known.
+	 * <p>
+	 * This is meant for item rendering, which cannot wait for the mesh.
+	 *
+	 * @param image the drawing
+	 * @param facing the facing of the blackboard
+	 * @return the mesh
+	 */
+	public static Mesh getMesh(BlackboardImage image, Direction facing) {
+		var key = new MeshKey(image, facing);
+
+		if (invalidated)
+			return key.build(); // The known meshes may use outdated sprites.
+
+		var mesh = MESHES.get(key);
+		if (mesh == null) {
+			mesh = key.build();
+			MESHES.put(key, mesh);
+		}
+
+		return mesh;
+	}
+
+	/**
+	 * Invalidates every known mesh, as their sprites may have changed.
+	 * <p>
+	 * Blackboards keep their current mesh until their new one has been built. This may be called from any thread.
+	 */
+	public static void invalidateAll() {
+		invalidated = true;
+	}
+
+	/**
+	 * Builds the queued meshes until the frame time budget is exhausted.
+	 * <p>
+	 * At least one mesh is built per frame so that the queue always progresses.
+	 */
+	public static void tick() {
+		if (invalidated) {
+			invalidated = false;
+			MESHES.clear();
+
+			for (var blackboard : ACTIVE_BLACKBOARDS) {
+				blackboard.markMeshDirty();
+				QUEUE.add(blackboard);
+			}
+		}
+
+		if (QUEUE.isEmpty())
+			return;
+
+		long deadline = System.nanoTime() + FRAME_BUDGET;
+
+		do {
+			var blackboard = QUEUE.removeFirst();
+			if (blackboard.isRemoved() || !blackboard.isMeshDirty())
+				continue;
+
+			var key = blackboard.getMeshKey();
+			var mesh = MESHES.get(key);
+			if (mesh == null) {
+				mesh = key.build();
+				MESHES.put(key, mesh);
+			}
+
+			blackboard.setMesh(mesh);
+			scheduleRedraw(blackboard);
+		} while (!QUEUE.isEmpty() && System.nanoTime() < deadline);
+	}
+
+	/**
+	 * Schedules the chunk section of the given blackboard to be re-rendered at the end of the tick.
+	 *
+	 * @param blackboard the updated blackboard
+	 */
+	public static void scheduleRedraw(BlackboardBlockEntity blackboard) {
+		PENDING_REDRAWS.putIfAbsent(ChunkSectionPos.toLong(blackboard.getPos()), blackboard);
+	}
+
+	/**
+	 * Re-renders the chunk sections of the blackboards updated during this tick.
+	 */
+	public static void flushRedraws() {
+		if (PENDING_REDRAWS.isEmpty())
+			return;
+
+		for (var blackboard : PENDING_REDRAWS.values()) {
+			// A removed blackboard already re-rendered its chunk section, as its block changed.
+			if (!blackboard.isRemoved())
+				blackboard.redraw();
+		}
+		PENDING_REDRAWS.clear();
+	}
+
+	/**
+	 * Forgets all tracked and queued blackboards, used when the world changes.
+	 */
+	public static void reset() {
+		ACTIVE_BLACKBOARDS.clear();
+		QUEUE.clear();
+		PENDING_REDRAWS.clear();
+	}
+
+	/**
+	 * {@return the number of blackboards waiting for their mesh}
+	 */
+	public static int getQueueSize() {
+		return QUEUE.size();
+	}
+
+	/**
+	 * Represents the key of a blackboard mesh, the same drawing with the same facing gives the same mesh.
+	 *
+	 * @param image the drawing
+	 * @param facing the facing of the blackboard
+	 */
+	public record MeshKey(BlackboardImage image, Direction facing) {
+		public Mesh build() {
+			return this.image.toBlackboard().buildMesh(this.facing,
+					this.image.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : 0);
+		}
+	}
+}
@@ -18,20 +18,29 @@
 package dev.lambdaurora.aurorasdeco.client;
 
 import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardColor;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImage;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
 import org.joml.Matrix4f;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
- * Represents a blackboard texture.
+ * Represents a blackboard texture, which is a 16x16 slot of a shared blackboard atlas page.
+ * <p>
+ * Textures are cached by {@link BlackboardImage content}, and item stacks remember their last decoded image
+ * so an unchanged stack never decodes its pixels or uploads its texture again.
+ * All blackboards of a same atlas page share a single render layer, allowing them to be drawn in one batch.
  *
  * @author LambdAurora
  * @version 1.0.0
@@ -39,81 +48,196 @@ import java.util.Map;
  */
 @ClientOnly
 public class BlackboardTexture {
-	private static final BlackboardTextureLRUCache TEXTURE_CACHE = new BlackboardTextureLRUCache(64);
-	private static final Deque<BlackboardTexture> UNUSED_TEXTURE_CACHE = new ArrayDeque<>();
+	/**
+	 * The size in pixels of an atlas page.
+	 */
+	private static final int PAGE_SIZE = 256;
+	private static final int SLOTS_PER_ROW = PAGE_SIZE / 16;
+	private static final int SLOTS_PER_PAGE = SLOTS_PER_ROW * SLOTS_PER_ROW;
+	/**
+	 * The amount of pages after which the least recently used slots are reused.
+	 * <p>
+	 * More pages are only allocated if every slot is drawn in the current frame.
+	 */
+	private static final int MAX_PAGES = 4;
 
-	private final NativeImageBackedTexture texture = new NativeImageBackedTexture(16, 16, true);
-	private final RenderLayer renderLayer;
+	private static final List<Page> PAGES = new ArrayList<>();
+	private static final BlackboardTextureLRUCache TEXTURE_CACHE = new BlackboardTextureLRUCache();
+	private static final Map<ItemStack, StackEntry> STACK_CACHE = new WeakHashMap<>();
+	/**
+	 * The next never allocated atlas slot.
+	 */
+	private static int nextSlot = 0;
+	private static int frame = 0;
 
-	public BlackboardTexture() {
-		var id = MinecraftClient.getInstance().getTextureManager()
-				.registerDynamicTexture("aurorasdeco/blackboard", this.texture);
-		this.renderLayer = RenderLayer.getText(id);
+	private final Page page;
+	private final int x;
+	private final int y;
+	private final float minU;
+	private final float minV;
+	private final float maxU;
+	private final float maxV;
+	/**
+	 * The last frame this texture has been looked up in.
+	 */
+	private int lastUsedFrame;
+
+	private BlackboardTexture(Page page, int slot) {
+		this.page = page;
+		this.x = (slot % SLOTS_PER_ROW) * 16;
+		this.y = (slot / SLOTS_PER_ROW) * 16;
+		this.minU = this.x / (float) PAGE_SIZE;
+		this.minV = this.y / (float) PAGE_SIZE;
+		this.maxU = (this.x + 16) / (float) PAGE_SIZE;
+		this.maxV = (this.y + 16) / (float) PAGE_SIZE;
 	}
 
 	public static BlackboardTexture fromBlackboard(Blackboard blackboard) {
-		return TEXTURE_CACHE.computeIfAbsent(blackboard, newBlackboard -> {
-			var texture = getOrCreateTexture();
-			texture.update(newBlackboard);
-			return texture;
-		});
+		return fromImage(BlackboardImage.of(blackboard));
 	}
 
-	public static BlackboardTexture getOrCreateTexture() {
-		if (UNUSED_TEXTURE_CACHE.isEmpty()) {
-			return new BlackboardTexture();
-		} else {
-			synchronized (UNUSED_TEXTURE_CACHE) {
-				return UNUSED_TEXTURE_CACHE.pop();
-			}
+	public static BlackboardTexture fromImage(BlackboardImage image) {
+		var texture = TEXTURE_CACHE.get(image);
+
+		if (texture == null) {
+			texture = allocate();
+			texture.update(image);
+			TEXTURE_CACHE.put(image, texture);
 		}
+
+		texture.lastUsedFrame = frame;
+		return texture;
 	}
 
-	public static void cacheTexture(BlackboardTexture texture) {
-		synchronized (UNUSED_TEXTURE_CACHE) {
-			UNUSED_TEXTURE_CACHE.push(texture);
+	/**
+	 * Gets the blackboard image stored in the given item stack block entity NBT.
+	 * <p>
+	 * The decoded image is remembered per stack and only decoded again if the NBT of the stack has changed,
+	 * it is {@linkplain BlackboardImageCache#intern(BlackboardImage) interned} so stacks of the same drawing share it.
+	 *
+	 * @param stack the item stack
+	 * @param nbt the block entity NBT of the item stack
+	 * @return the blackboard image
+	 */
+	public static BlackboardImage getImage(ItemStack stack, NbtCompound nbt) {
+		var entry = STACK_CACHE.get(stack);
+
+		if (entry == null || !entry.matches(nbt)) {
+			entry = new StackEntry(nbt, BlackboardImageCache.intern(BlackboardImage.fromNbt(nbt)));
+			STACK_CACHE.put(stack, entry);
 		}
+
+		return entry.image();
+	}
+
+	/**
+	 * Marks the start of a new frame, textures looked up before can be reused for other images.
+	 */
+	public static void startFrame() {
+		frame++;
+	}
+
+	/**
+	 * Allocates an atlas slot, either a new one or the least recently used one.
+	 * <p>
+	 * A slot drawn in the current frame is never reused, as its previous image would be replaced before being rendered.
+	 *
+	 * @return the allocated slot
+	 */
+	private static BlackboardTexture allocate() {
+		if (nextSlot >= SLOTS_PER_PAGE * MAX_PAGES) {
+			// The cache is in access order, so if the eldest texture has been drawn in this frame, every texture has.
+			var eldest = TEXTURE_CACHE.entrySet().iterator().next();
+
+			if (eldest.getValue().lastUsedFrame != frame) {
+				TEXTURE_CACHE.remove(eldest.getKey());
+				return eldest.getValue();
+			}
+		}
+
+		int slot = nextSlot++;
+		int pageIndex = slot / SLOTS_PER_PAGE;
+
+		if (pageIndex == PAGES.size()) {
+			PAGES.add(new Page());
+		}
+
+		return new BlackboardTexture(PAGES.get(pageIndex), slot % SLOTS_PER_PAGE);
 	}
 
 	public void render(Matrix4f model, VertexConsumerProvider vertexConsumers, int light, boolean mirror) {
-		var vertices = vertexConsumers.getBuffer(this.renderLayer);
+		var vertices = vertexConsumers.getBuffer(this.page.renderLayer);
+		float leftU = mirror ? this.maxU : this.minU;
+		float rightU = mirror ? this.minU : this.maxU;
+
 		vertices.vertex(model, mirror ? 1.f : 0.f, 1.f, 0.f)
 				.color(255, 255, 255, 255)
-				.uv(mirror ? 1.f : 0.f, 1.f).light(light).next();
+				.uv(leftU, this.maxV).light(light).next();
 		vertices.vertex(model, mirror ? 0.f : 1.f, 1.f, 0.f)
 				.color(255, 255, 255, 255)
-				.uv(mirror ? 0.f : 1.f, 1.f).light(light).next();
+				.uv(rightU, this.maxV).light(light).next();
 		vertices.vertex(model, mirror ? 0.f : 1.f, 0.f, 0.f)
 				.color(255, 255, 255, 255)
-				.uv(mirror ? 0.f : 1.f, 0.f).light(light).next();
+				.uv(rightU, this.minV).light(light).next();
 		vertices.vertex(model, mirror ? 1.f : 0.f, 0.f, 0.f)
 				.color(255, 255, 255, 255)
-				.uv(mirror ? 1.f : 0.f, 0.f).light(light).next();
+				.uv(leftU, this.minV).light(light).next();
 	}
 
-	public void update(Blackboard blackboard) {
+	public void update(BlackboardImage image) {
+		var nativeImage = this.page.texture.getImage();
+		var colors = BlackboardColor.getRenderTable();
+
 		for (int y = 0; y < 16; y++) {
 			for (int x = 0; x < 16; x++) {
-				this.texture.getImage().setPixelColor(x, y, blackboard.getColor(x, y));
+				nativeImage.setPixelColor(this.x + x, this.y + y, colors[image.getPixel(x, y) & 0xffff]);
 			}
 		}
-		this.texture.upload();
+
+		this.page.texture.bindTexture();
+		nativeImage.upload(0, this.x, this.y, this.x, this.y, 16, 16, false, false, false, false);
 	}
 
-	static class BlackboardTextureLRUCache extends LinkedHashMap<Blackboard, BlackboardTexture> {
-		private final int capacity;
+	/**
+	 * Represents a page of the blackboard atlas.
+	 */
+	static class Page {
+		private final NativeImageBackedTexture texture = new NativeImageBackedTexture(PAGE_SIZE, PAGE_SIZE, true);
+		private final RenderLayer renderLayer;
 
-		public BlackboardTextureLRUCache(int capacity) {
-			this.capacity = capacity;
+		Page() {
+			var id = MinecraftClient.getInstance().getTextureManager()
+					.registerDynamicTexture("aurorasdeco/blackboard_atlas", this.texture);
+			this.renderLayer = RenderLayer.getText(id);
 		}
+	}
 
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<Blackboard, BlackboardTexture> eldest) {
-			if (this.size() > capacity) {
-				cacheTexture(eldest.getValue());
-				return true;
-			}
-			return false;
+	/**
+	 * Represents the last known state of a blackboard item stack.
+	 * <p>
+	 * The NBT compound and the pixel array are compared by identity,
+	 * item stacks replace them when their content changes.
+	 *
+	 * @param nbt the block entity NBT of the stack
+	 * @param pixels the raw pixel data of the stack
+	 * @param lit {@code true} if the blackboard is lit, or {@code false} otherwise
+	 * @param image the decoded image
+	 */
+	record StackEntry(NbtCompound nbt, byte[] pixels, boolean lit, BlackboardImage image) {
+		StackEntry(NbtCompound nbt, BlackboardImage image) {
+			this(nbt, nbt.getByteArray("pixels"), nbt.getBoolean("lit"), image);
+		}
+
+		boolean matches(NbtCompound nbt) {
+			return this.nbt == nbt
+					&& this.pixels == nbt.getByteArray("pixels")
+					&& this.lit == nbt.getBoolean("lit");
+		}
+	}
+
+	static class BlackboardTextureLRUCache extends LinkedHashMap<BlackboardImage, BlackboardTexture> {
+		public BlackboardTextureLRUCache() {
+			super(SLOTS_PER_PAGE, .75f, true);
 		}
 	}
 }
@@ -20,7 +20,10 @@ package dev.lambdaurora.aurorasdeco.client;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.HashCommon;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.client.model.loading.v1.ModelLoadingPlugin;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -41,9 +44,9 @@ import org.slf4j.Logger;
 
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Represents a render rule.
@@ -59,13 +62,22 @@ public record RenderRule(List<Model> models) {
 	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final Map<Identifier, RenderRule> ITEM_RULES = new Object2ObjectOpenHashMap<>();
 	private static final Map<TagKey<Item>, RenderRule> TAG_RULES = new Object2ObjectOpenHashMap<>();
+	private static final Reference2ObjectMap<Item, RenderRule> COMPILED_RULES = new Reference2ObjectOpenHashMap<>();
+	/**
+	 * {@code true} if the rules have to be compiled again, may be set from the resource reload threads.
+	 */
+	private static volatile boolean invalidated = true;
+	/**
+	 * The generation of the compiled rules, incremented on each compilation to invalidate the memoized selections.
+	 */
+	private static int generation;
 
 	public @Nullable Model getModelId(ItemStack stack, BlockState state, long seed) {
 		if (this.models.size() == 1) {
 			Model model = this.models.get(0);
 			return model.test(stack, state) ? model : null;
 		} else {
-			final int i = Math.abs(Objects.hash(stack.getCount(), stack.getName().getString(), seed) % this.models.size());
+			final int i = Math.floorMod(getSelectionHash(stack, seed), this.models.size());
 			int actualI = i;
 
 			Model model;
@@ -88,21 +100,32 @@ public record RenderRule(List<Model> models) {
 		return model == null ? null : model.getModel();
 	}
 
-	public static @Nullable RenderRule getRenderRule(ItemStack stack) {
-		var itemId = Registries.ITEM.getId(stack.getItem());
+	/**
+	 * {@return the hash used to select the model of the given stack among the models of a rule}
+	 * <p>
+	 * The hash is stable for a given item, count and NBT, and does not build the display name of the stack.
+	 *
+	 * @param stack the stack
+	 * @param seed the seed of the selection
+	 */
+	private static int getSelectionHash(ItemStack stack, long seed) {
+		int hash = Registries.ITEM.getId(stack.getItem()).hashCode();
+		hash = 31 * hash + stack.getCount();
 
-		var rule = ITEM_RULES.get(itemId);
-		if (rule != null) {
-			return rule;
+		var nbt = stack.getNbt();
+		if (nbt != null) {
+			hash = 31 * hash + nbt.hashCode();
 		}
 
-		for (var entry : TAG_RULES.entrySet()) {
-			if (stack.isIn(entry.getKey())) {
-				return entry.getValue();
-			}
+		return HashCommon.mix(hash ^ HashCommon.long2int(seed));
+	}
+
+	public static @Nullable RenderRule getRenderRule(ItemStack stack) {
+		if (invalidated) {
+			compile();
 		}
 
-		return null;
+		return COMPILED_RULES.get(stack.getItem());
 	}
 
 	public static BakedModel getModel(ItemStack stack, BlockState state, World world, long seed) {
@@ -117,6 +140,43 @@ public record RenderRule(List<Model> models) {
 		return model;
 	}
 
+	/**
+	 * Compiles the item and tag rules into a table of the rule of every item.
+	 */
+	private static void compile() {
+		invalidated = false;
+		generation++;
+		COMPILED_RULES.clear();
+
+		for (var item : Registries.ITEM) {
+			var rule = ITEM_RULES.get(Registries.ITEM.getId(item));
+
+			if (rule == null && !TAG_RULES.isEmpty()) {
+				var stack = new ItemStack(item);
+
+				for (var entry : TAG_RULES.entrySet()) {
+					if (stack.isIn(entry.getKey())) {
+						rule = entry.getValue();
+						break;
+					}
+				}
+			}
+
+			if (rule != null) {
+				COMPILED_RULES.put(item, rule);
+			}
+		}
+	}
+
+	/**
+	 * Invalidates the compiled rules, as the rules or the item tags have changed.
+	 * <p>
+	 * The rules are compiled again on the next lookup. This may be called from any thread.
+	 */
+	public static void invalidate() {
+		invalidated = true;
+	}
+
 	public static void addModels(ModelLoadingPlugin.Context context) {
 		ITEM_RULES.values().stream().flatMap(rule -> rule.models().stream()).map(Model::modelId).forEach(context::addModels);
 		TAG_RULES.values().stream().flatMap(rule -> rule.models().stream()).map(Model::modelId).forEach(context::addModels);
@@ -125,6 +185,7 @@ public record RenderRule(List<Model> models) {
 	public static void reload(ResourceManager manager) {
 		ITEM_RULES.clear();
 		TAG_RULES.clear();
+		invalidate();
 
 		manager.findResources("aurorasdeco/render_rules", path -> path.getPath().endsWith(".json")).forEach((id, resource) -> {
 			try (var reader = new InputStreamReader(resource.open())) {
@@ -164,6 +225,61 @@ public record RenderRule(List<Model> models) {
 		});
 	}
 
+	/**
+	 * Memoizes the models selected for the slots of a block entity, so they are only selected again once the stack
+	 * of a slot, the block state or the rules change.
+	 */
+	public static final class ModelSelection {
+		private final ItemStack[] stacks;
+		private final int[] counts;
+		private final long[] seeds;
+		private final Model[] models;
+		private @Nullable BlockState state;
+		private int generation = -1;
+
+		public ModelSelection(int size) {
+			this.stacks = new ItemStack[size];
+			this.counts = new int[size];
+			this.seeds = new long[size];
+			this.models = new Model[size];
+		}
+
+		/**
+		 * {@return the model to render the stack of the given slot with}
+		 *
+		 * @param slot the slot
+		 * @param stack the stack in the slot
+		 * @param state the block state of the block entity
+		 * @param world the world of the block entity
+		 * @param seed the seed of the model selection
+		 */
+		public BakedModel getModel(int slot, ItemStack stack, BlockState state, World world, long seed) {
+			if (invalidated) {
+				compile();
+			}
+
+			if (this.generation != RenderRule.generation || this.state != state) {
+				Arrays.fill(this.stacks, null);
+				this.generation = RenderRule.generation;
+				this.state = state;
+			}
+
+			if (this.stacks[slot] != stack || this.counts[slot] != stack.getCount() || this.seeds[slot] != seed) {
+				var rule = COMPILED_RULES.get(stack.getItem());
+
+				this.stacks[slot] = stack;
+				this.counts[slot] = stack.getCount();
+				this.seeds[slot] = seed;
+				this.models[slot] = rule == null ? null : rule.getModelId(stack, state, seed);
+			}
+
+			var model = this.models[slot];
+			if (model == null)
+				return MinecraftClient.getInstance().getItemRenderer().getHeldItemModel(stack, world, null, 0);
+			return model.getModel();
+		}
+	}
+
 	public record Model(ModelIdentifier modelId, @Nullable Block restrictedBlock, @Nullable TagKey<Block> restrictedBlockTag) {
 		public boolean test(ItemStack stack, BlockState state) {
 			if (this.restrictedBlock != null) {
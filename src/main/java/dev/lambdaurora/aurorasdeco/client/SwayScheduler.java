@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client;
+
+import dev.lambdaurora.aurorasdeco.block.entity.LanternBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.SwayingBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.WindChimeBlockEntity;
+import dev.lambdaurora.aurorasdeco.client.renderer.LanternBlockEntityRenderer;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.LightType;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.Arrays;
+
+/**
+ * Schedules the client ticking of swaying block entities, grouped by chunk section.
+ * <p>
+ * Sections close to the camera are ticked every tick, sections further away are ticked at a reduced rate,
+ * and sections beyond the lantern render distance are frozen: only their swinging block entities are ticked, rarely,
+ * so they eventually come back to rest, and their lanterns at rest are put back in the chunk mesh.
+ * <p>
+ * The sky exposure of swaying block entities, which decides whether they naturally sway, is cached per block entity
+ * and only refreshed when the sky light of their section is updated.
+ * <p>
+ * Lanterns and wind chimes of a section are ticked in batches against the {@linkplain Wind.Snapshot wind snapshot}
+ * of the tick, the natural swaying angles of the lanterns of a section being evaluated in a single pass.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class SwayScheduler {
+	/**
+	 * The distance in blocks within which sections are ticked every tick.
+	 */
+	private static final int FULL_RATE_DISTANCE = 32;
+	/**
+	 * The tick interval of sections at medium range.
+	 */
+	private static final int REDUCED_RATE_INTERVAL = 4;
+	/**
+	 * The tick interval of frozen sections with swinging block entities.
+	 */
+	private static final int FROZEN_INTERVAL = 20;
+	/**
+	 * The maximum amount of ticks to catch up at once, swings are always over by then.
+	 */
+	private static final int MAX_CATCH_UP_TICKS = 100;
+
+	private static final Long2ObjectMap<Section> SECTIONS = new Long2ObjectOpenHashMap<>();
+
+	private SwayScheduler() {
+		throw new UnsupportedOperationException("SwayScheduler only contains static definitions.");
+	}
+
+	/**
+	 * Adds the given swaying block entity to the scheduler.
+	 *
+	 * @param blockEntity the swaying block entity
+	 */
+	public static void add(SwayingBlockEntity blockEntity) {
+		var pos = blockEntity.getPos();
+		var section = SECTIONS.computeIfAbsent(ChunkSectionPos.toLong(pos), key -> new Section());
+
+		if (section.add(blockEntity))
+			section.skyDirty = true;
+	}
+
+	/**
+	 * Removes the given swaying block entity from the scheduler.
+	 *
+	 * @param blockEntity the swaying block entity
+	 */
+	public static void remove(SwayingBlockEntity blockEntity) {
+		long key = ChunkSectionPos.toLong(blockEntity.getPos());
+		var section = SECTIONS.get(key);
+
+		if (section != null) {
+			section.remove(blockEntity);
+
+			if (section.isEmpty())
+				SECTIONS.remove(key);
+		}
+	}
+
+	/**
+	 * Marks the sky exposure of the swaying block entities of the given section to be refreshed.
+	 *
+	 * @param type the type of the updated light
+	 * @param pos the position of the updated section
+	 */
+	public static void onLightUpdate(LightType type, ChunkSectionPos pos) {
+		if (type != LightType.SKY)
+			return;
+
+		var section = SECTIONS.get(pos.asLong());
+		if (section != null)
+			section.skyDirty = true;
+	}
+
+	/**
+	 * Ticks the swaying block entities according to their distance to the camera.
+	 *
+	 * @param world the world
+	 */
+	public static void tick(ClientWorld world) {
+		if (SECTIONS.isEmpty())
+			return;
+
+		var camera = MinecraftClient.getInstance().gameRenderer.getCamera().getPos();
+		long time = world.getTime();
+		int frozenDistance = LanternBlockEntityRenderer.RENDER_DISTANCE;
+		var wind = Wind.get().getSnapshot();
+
+		for (var entry : SECTIONS.long2ObjectEntrySet()) {
+			long key = entry.getLongKey();
+			var section = entry.getValue();
+
+			double x = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackX(key)) + 8 - camera.getX();
+			double y = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackY(key)) + 8 - camera.getY();
+			double z = ChunkSectionPos.getBlockCoord(ChunkSectionPos.unpackZ(key)) + 8 - camera.getZ();
+			double squaredDistance = x * x + y * y + z * z;
+
+			// Spread the sections ticked at a reduced rate over the interval.
+			int phase = (int) (HashCommon.mix(key) & Integer.MAX_VALUE);
+
+			boolean frozen = squaredDistance > frozenDistance * frozenDistance;
+			int interval;
+			if (squaredDistance <= FULL_RATE_DISTANCE * FULL_RATE_DISTANCE) interval = 1;
+			else if (!frozen) interval = REDUCED_RATE_INTERVAL;
+			else interval = FROZEN_INTERVAL;
+
+			if (interval != 1 && (time + phase) % interval != 0)
+				continue;
+
+			int ticks = section.lastTick == Long.MIN_VALUE ? 1
+					: (int) MathHelper.clamp(time - section.lastTick, 1, MAX_CATCH_UP_TICKS);
+			section.lastTick = time;
+
+			if (section.skyDirty) {
+				section.skyDirty = false;
+				section.updateSkyExposure(world);
+			}
+
+			section.tick(world, ticks, wind, camera, frozen);
+		}
+	}
+
+	/**
+	 * Forgets every swaying block entity, used when the world changes.
+	 */
+	public static void clear() {
+		SECTIONS.clear();
+	}
+
+	private static final class Section {
+		private final ReferenceArrayList<SwayingBlockEntity> blockEntities = new ReferenceArrayList<>();
+		private final ReferenceArrayList<WindChimeBlockEntity> windChimes = new ReferenceArrayList<>();
+		private LanternBlockEntity[] lanterns = new LanternBlockEntity[4];
+		private int[] lanternPhases = new int[4];
+		private float[] lanternAngles = new float[4];
+		private int lanternCount;
+		private long lastTick = Long.MIN_VALUE;
+		private boolean skyDirty = true;
+
+		private boolean add(SwayingBlockEntity blockEntity) {
+			if (blockEntity instanceof LanternBlockEntity lantern) {
+				if (this.indexOfLantern(lantern) != -1)
+					return false;
+
+				if (this.lanternCount == this.lanterns.length) {
+					int capacity = this.lanternCount * 2;
+					this.lanterns = Arrays.copyOf(this.lanterns, capacity);
+					this.lanternPhases = Arrays.copyOf(this.lanternPhases, capacity);
+					this.lanternAngles = new float[capacity];
+				}
+
+				this.lanterns[this.lanternCount] = lantern;
+				this.lanternPhases[this.lanternCount] = lantern.getNaturalSwayPhase();
+				this.lanternCount++;
+				return true;
+			} else if (blockEntity instanceof WindChimeBlockEntity windChime) {
+				if (this.windChimes.contains(windChime))
+					return false;
+
+				return this.windChimes.add(windChime);
+			} else {
+				if (this.blockEntities.contains(blockEntity))
+					return false;
+
+				return this.blockEntities.add(blockEntity);
+			}
+		}
+
+		private void remove(SwayingBlockEntity blockEntity) {
+			if (blockEntity instanceof LanternBlockEntity lantern) {
+				int index = this.indexOfLantern(lantern);
+				if (index == -1)
+					return;
+
+				// Swap with the last lantern to keep the batch packed.
+				int last = --this.lanternCount;
+				this.lanterns[index] = this.lanterns[last];
+				this.lanternPhases[index] = this.lanternPhases[last];
+				this.lanterns[last] = null;
+			} else if (blockEntity instanceof WindChimeBlockEntity windChime) {
+				this.windChimes.remove(windChime);
+			} else {
+				this.blockEntities.remove(blockEntity);
+			}
+		}
+
+		private int indexOfLantern(LanternBlockEntity lantern) {
+			for (int i = 0; i < this.lanternCount; i++) {
+				if (this.lanterns[i] == lantern)
+					return i;
+			}
+
+			return -1;
+		}
+
+		private boolean isEmpty() {
+			return this.lanternCount == 0 && this.windChimes.isEmpty() && this.blockEntities.isEmpty();
+		}
+
+		private void updateSkyExposure(ClientWorld world) {
+			for (int i = 0; i < this.lanternCount; i++) {
+				this.lanterns[i].updateSkyExposure(world);
+			}
+
+			for (int i = 0; i < this.windChimes.size(); i++) {
+				this.windChimes.get(i).updateSkyExposure(world);
+			}
+
+			for (int i = 0; i < this.blockEntities.size(); i++) {
+				this.blockEntities.get(i).updateSkyExposure(world);
+			}
+		}
+
+		private void tick(ClientWorld world, int ticks, Wind.Snapshot wind, Vec3d camera, boolean frozen) {
+			if (this.lanternCount != 0) {
+				wind.computeLanternSwayingAngles(this.lanternPhases, this.lanternAngles, this.lanternCount);
+
+				for (int i = 0; i < this.lanternCount; i++) {
+					var lantern = this.lanterns[i];
+
+					// Lanterns of frozen sections are beyond the render distance of their renderer,
+					// those at rest must be in the chunk mesh to stay visible.
+					if (!frozen || !LanternBlockEntity.freeze(lantern, world)) {
+						LanternBlockEntity.tickClient(lantern, world, ticks, this.lanternAngles[i],
+								!frozen && LanternBlockEntityRenderer.isWithinNaturalSwayDistance(camera, lantern.getPos()));
+					}
+				}
+			}
+
+			for (int i = 0; i < this.windChimes.size(); i++) {
+				var windChime = this.windChimes.get(i);
+
+				if (!frozen || windChime.isSwinging() || windChime.isColliding())
+					WindChimeBlockEntity.tickClient(windChime, ticks, wind);
+			}
+
+			for (int i = 0; i < this.blockEntities.size(); i++) {
+				var blockEntity = this.blockEntities.get(i);
+
+				if (!frozen || blockEntity.isSwinging() || blockEntity.isColliding())
+					blockEntity.tickClient(world, ticks);
+			}
+		}
+	}
+}
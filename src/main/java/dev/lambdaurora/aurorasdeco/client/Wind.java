@@ -17,39 +17,52 @@
 
 package dev.lambdaurora.aurorasdeco.client;
 
-import dev.lambdaurora.aurorasdeco.util.math.SmoothNoise;
-import dev.lambdaurora.aurorasdeco.util.math.TriangularDistribution;
+import dev.lambdaurora.aurorasdeco.block.entity.LanternBlockEntity;
+import dev.lambdaurora.aurorasdeco.world.WindField;
+import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.Identifier;
 import net.minecraft.util.math.MathHelper;
-import net.minecraft.world.dimension.DimensionType;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
-import java.util.List;
-import java.util.Random;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Simulates wind.
  * <p>
- * All credits go to Fourmisain who wrote this code for Falling Leaves.
+ * The wind of the current world is evaluated by its {@link WindField} around the camera each tick.
+ * The server sends the seed and the state transitions of the wind of each world; if it does not,
+ * the wind of the world is simulated locally.
+ * <p>
+ * All credits go to Fourmisain who wrote the original code for Falling Leaves.
  * https://github.com/RandomMcSomethin/fallingleaves/blob/main/src/main/java/randommcsomethin/fallingleaves/util/Wind.java
  */
 @ClientOnly
 public class Wind {
 	public static final long WIND_SEED = 0xa4505a;
-	private static final Random RANDOM = new Random(WIND_SEED);
+	/**
+	 * The natural swaying angles of lanterns, by phase.
+	 */
+	private static final float[] LANTERN_SWAYING_ANGLES = new float[LanternBlockEntity.NATURAL_SWAY_PERIOD];
+
+	static {
+		for (int phase = 0; phase < LANTERN_SWAYING_ANGLES.length; phase++) {
+			LANTERN_SWAYING_ANGLES[phase] = LanternBlockEntity.getNaturalSwayingAngle(phase, 0);
+		}
+	}
+
 	private static Wind INSTANCE = new Wind();
 
+	/**
+	 * The wind fields sent by the server, by world.
+	 */
+	private final Map<Identifier, WindField> serverFields = new HashMap<>();
+	private WindField field;
+	private boolean localField;
 	private float windX;
 	private float windZ;
-	private SmoothNoise velocityNoise;
-	private SmoothNoise directionTrendNoise;
-	private SmoothNoise directionNoise;
-
-	private boolean wasRaining;
-	private boolean wasThundering;
-	private State state;
-	private State originalState;
-	private int stateDuration; // Ticks
+	private Snapshot snapshot;
 
 	public static Wind get() {
 		return INSTANCE;
@@ -64,105 +77,165 @@ public class Wind {
 	}
 
 	public void reset() {
-		this.state = State.CALM;
-		this.stateDuration = 0;
-
-		this.wasRaining = this.wasThundering = false;
+		this.field = new WindField(WIND_SEED);
+		this.localField = true;
 
 		this.windX = this.windZ = 0;
+		this.snapshot = Snapshot.of(0, WindField.Grid.EMPTY, this.field.getState());
+	}
 
-		this.velocityNoise = new SmoothNoise(2 * 20, 0, old -> this.state.getVelocityDistribution().sample());
-		this.directionTrendNoise = new SmoothNoise(30 * 60 * 20, RANDOM.nextFloat() * MathHelper.TAU,
-				old -> RANDOM.nextFloat() * MathHelper.TAU
-		);
-		this.directionNoise = new SmoothNoise(10 * 20, 0, old -> (2f * RANDOM.nextFloat() - 1f) * MathHelper.TAU / 8f);
+	/**
+	 * Forgets the wind fields sent by the server, used when disconnecting.
+	 */
+	public void clearServerFields() {
+		this.serverFields.clear();
 	}
 
+	/**
+	 * Sets the wind field of the given world as sent by the server.
+	 *
+	 * @param world the identifier of the world
+	 * @param field the wind field
+	 */
+	public void onFieldReceived(Identifier world, WindField field) {
+		this.serverFields.put(world, field);
+	}
+
+	/**
+	 * {@return the wind on the X-axis around the camera}
+	 */
 	public float getWindX() {
 		return this.windX;
 	}
 
+	/**
+	 * {@return the wind on the Z-axis around the camera}
+	 */
 	public float getWindZ() {
 		return this.windZ;
 	}
 
-	public State getState() {
-		return this.state;
+	public WindField.State getState() {
+		return this.field.getState();
 	}
 
-	private void tickState(ClientWorld world) {
-		this.stateDuration--;
-
-		DimensionType dimensionType = world.getDimension();
-
-		if (!dimensionType.natural() || dimensionType.hasCeiling()) {
-			this.originalState = this.state;
+	/**
+	 * {@return the snapshot of the wind of the current tick}
+	 */
+	public Snapshot getSnapshot() {
+		return this.snapshot;
+	}
 
-			if (dimensionType.ultraWarm()) {
-				// Nether-like
-				this.state = State.WINDY;
-			} else {
-				// There's no wind
-				this.state = State.CALM;
+	public void tick(ClientWorld world) {
+		var serverField = this.serverFields.get(world.getRegistryKey().getValue());
+
+		if (serverField != null) {
+			this.field = serverField;
+			this.localField = false;
+		} else {
+			if (!this.localField) {
+				this.field = new WindField(WIND_SEED);
+				this.localField = true;
 			}
 
-			return;
+			this.field.tickState(world);
 		}
 
-		if (this.originalState != null) {
-			this.state = this.originalState;
-			this.originalState = null;
-		}
+		var camera = MinecraftClient.getInstance().gameRenderer.getCamera().getPos();
+		var grid = this.field.tick(world.getTime(), camera.getX(), camera.getZ());
 
-		boolean raining = world.getProperties().isRaining();
-		boolean thundering = world.isThundering();
-		boolean weatherChanged = this.wasRaining != raining || this.wasThundering != thundering;
-
-		if (weatherChanged || this.stateDuration <= 0) {
-			if (thundering) {
-				state = State.STORMY;
-			} else {
-				// Windy and stormy when raining, calm and windy otherwise.
-				int index = RANDOM.nextInt(2);
-				state = State.VALUES.get(raining ? index + 1 : index);
-			}
-
-			this.stateDuration = 6 * 60 * 20; // Change state every 6 minutes.
-		}
+		this.windX = grid.getWindX(camera.getX(), camera.getZ());
+		this.windZ = grid.getWindZ(camera.getX(), camera.getZ());
 
-		this.wasRaining = raining;
-		this.wasThundering = thundering;
+		this.snapshot = Snapshot.of(world.getTime(), grid, this.field.getState());
 	}
 
-	public void tick(ClientWorld world) {
-		this.tickState(world);
-
-		this.velocityNoise.tick();
-		this.directionTrendNoise.tick();
-		this.directionNoise.tick();
-
-		float strength = this.velocityNoise.getNoise();
-		float direction = this.directionNoise.getLerp() + this.directionNoise.getNoise();
+	/**
+	 * Represents the immutable state of the wind during a tick, shared by every wind consumer ticked during it.
+	 * <p>
+	 * Everything that only depends on the wind and the time is computed once per tick here,
+	 * so that consumers only have to look it up.
+	 *
+	 * @param time the world time of the tick
+	 * @param grid the wind evaluated around the camera
+	 * @param state the state of the wind
+	 * @param lanternTimePhase the phase of the time in the natural swaying period of lanterns
+	 */
+	public record Snapshot(long time, WindField.Grid grid, WindField.State state, int lanternTimePhase) {
+		public static Snapshot of(long time, WindField.Grid grid, WindField.State state) {
+			return new Snapshot(time, grid, state, (int) Math.floorMod(time, (long) LanternBlockEntity.NATURAL_SWAY_PERIOD));
+		}
 
-		this.windX = strength * MathHelper.cos(direction);
-		this.windZ = strength * MathHelper.sin(direction);
-	}
+		/**
+		 * {@return the wind on the X-axis at the given position}
+		 *
+		 * @param x the X-coordinate
+		 * @param z the Z-coordinate
+		 */
+		public float getWindX(double x, double z) {
+			return this.grid.getWindX(x, z);
+		}
 
-	public enum State {
-		CALM(0.05f, 0.05f, 0.2f),
-		WINDY(0.05f, 0.3f, 0.7f),
-		STORMY(0.05f, 0.6f, 1.1f);
+		/**
+		 * {@return the wind on the Z-axis at the given position}
+		 *
+		 * @param x the X-coordinate
+		 * @param z the Z-coordinate
+		 */
+		public float getWindZ(double x, double z) {
+			return this.grid.getWindZ(x, z);
+		}
 
-		public static final List<State> VALUES = List.of(values());
+		/**
+		 * {@return the pitch of a wind chime at the given position induced by the wind}
+		 *
+		 * @param x the X-coordinate
+		 * @param z the Z-coordinate
+		 */
+		public float getWindChimePitch(double x, double z) {
+			return MathHelper.sin(-this.grid.getWindZ(x, z)) * 0.85f;
+		}
 
-		private final TriangularDistribution velocityDistribution;
+		/**
+		 * {@return the roll of a wind chime at the given position induced by the wind}
+		 *
+		 * @param x the X-coordinate
+		 * @param z the Z-coordinate
+		 */
+		public float getWindChimeRoll(double x, double z) {
+			return MathHelper.sin(this.grid.getWindX(x, z)) * 0.85f;
+		}
 
-		State(float minSpeed, float likelySpeed, float maxSpeed) {
-			this.velocityDistribution = new TriangularDistribution(minSpeed, maxSpeed, likelySpeed, RANDOM);
+		/**
+		 * {@return the natural swaying angle of a lantern during this tick}
+		 *
+		 * @param phase the natural sway phase of the lantern
+		 * @see LanternBlockEntity#getNaturalSwayPhase()
+		 */
+		public float getLanternSwayingAngle(int phase) {
+			int index = phase + this.lanternTimePhase;
+			if (index >= LanternBlockEntity.NATURAL_SWAY_PERIOD)
+				index -= LanternBlockEntity.NATURAL_SWAY_PERIOD;
+
+			return LANTERN_SWAYING_ANGLES[index];
 		}
 
-		public TriangularDistribution getVelocityDistribution() {
-			return this.velocityDistribution;
+		/**
+		 * Computes the natural swaying angles of many lanterns during this tick at once.
+		 *
+		 * @param phases the natural sway phases of the lanterns
+		 * @param angles the array to store the angles in
+		 * @param count the amount of lanterns
+		 */
+		public void computeLanternSwayingAngles(int[] phases, float[] angles, int count) {
+			final float[] table = LANTERN_SWAYING_ANGLES;
+			final int period = LanternBlockEntity.NATURAL_SWAY_PERIOD;
+			final int timePhase = this.lanternTimePhase;
+
+			for (int i = 0; i < count; i++) {
+				int index = phases[i] + timePhase;
+				angles[i] = table[index >= period ? index - period : index];
+			}
 		}
 	}
 }
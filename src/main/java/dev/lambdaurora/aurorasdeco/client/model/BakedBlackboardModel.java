@@ -17,13 +17,13 @@
 
 package dev.lambdaurora.aurorasdeco.client.model;
 
-import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
+import dev.lambdaurora.aurorasdeco.client.BlackboardMeshManager;
+import dev.lambdaurora.aurorasdeco.client.BlackboardTexture;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.model.ForwardingBakedModel;
 import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
 import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachedBlockView;
 import net.minecraft.block.BlockState;
-import net.minecraft.client.render.LightmapTextureManager;
 import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
@@ -67,9 +67,9 @@ public class BakedBlackboardModel extends ForwardingBakedModel {
 
 		var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
 		if (nbt != null && nbt.contains("pixels", NbtElement.BYTE_ARRAY_TYPE)) {
-			var blackboard = Blackboard.fromNbt(nbt);
-			blackboard.buildMesh(Direction.NORTH, blackboard.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : 0)
-					.outputTo(context.getEmitter());
+			// Stacks of the same drawing share the same mesh.
+			var image = BlackboardTexture.getImage(stack, nbt);
+			BlackboardMeshManager.getMesh(image, Direction.NORTH).outputTo(context.getEmitter());
 		}
 	}
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client.model;
+
+import dev.lambdaurora.aurorasdeco.block.entity.BookPileBlockEntity;
+import dev.lambdaurora.aurorasdeco.client.renderer.BookPileEntityRenderer;
+import net.fabricmc.fabric.api.renderer.v1.model.ForwardingBakedModel;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachedBlockView;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.random.RandomGenerator;
+import net.minecraft.world.BlockRenderView;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.function.Supplier;
+
+/**
+ * Represents the book pile model.
+ * <p>
+ * The books of the pile are emitted into the chunk mesh with the same layout as the
+ * {@linkplain BookPileEntityRenderer block entity renderer}, which only renders the books with dynamic or glint rendering.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public class BakedBookPileModel extends ForwardingBakedModel {
+	public BakedBookPileModel(BakedModel baseModel) {
+		this.wrapped = baseModel;
+	}
+
+	@Override
+	public boolean isVanillaAdapter() {
+		return false;
+	}
+
+	@Override
+	public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<RandomGenerator> randomSupplier,
+			RenderContext context) {
+		super.emitBlockQuads(blockView, state, pos, randomSupplier, context);
+
+		var attachment = ((RenderAttachedBlockView) blockView).getBlockEntityRenderAttachment(pos);
+		if (!(attachment instanceof Contents contents))
+			return;
+
+		var matrices = new MatrixStack();
+
+		for (int slot = 0; slot < contents.models().length; slot++) {
+			var model = contents.models()[slot];
+			if (model == null)
+				continue;
+
+			matrices.push();
+			BookPileEntityRenderer.applyBookTransform(matrices, contents.layers()[slot], contents.angles()[slot], model.hasDepth());
+			StaticItemModels.emit(context, contents.stacks()[slot], model, matrices, randomSupplier);
+			matrices.pop();
+		}
+
+		// Only reached when building the section of the book pile, unlike the capture of the render attachment.
+		contents.tracker().onBaked(contents.generation(), contents.bakedSlots());
+	}
+
+	/**
+	 * Represents the books of a book pile baked in the chunk mesh, captured when the chunk section is rebuilt.
+	 *
+	 * @param stacks the baked books, {@code null} for slots which are not baked
+	 * @param models the models of the baked books, {@code null} for slots which are not baked
+	 * @param layers the layer of the book of each slot
+	 * @param angles the rotation of the book of each slot
+	 * @param bakedSlots the bit mask of the baked slots
+	 * @param tracker the tracker of the slots baked in the chunk mesh of the book pile
+	 * @param generation the generation of the books of the book pile when captured
+	 */
+	public record Contents(ItemStack[] stacks, BakedModel[] models, int[] layers, int[] angles, int bakedSlots,
+			BakedSlotTracker tracker, int generation) {
+		/**
+		 * Captures the books of the given book pile which can be baked in the chunk mesh.
+		 *
+		 * @param bookPile the book pile
+		 * @return the captured contents, or {@code null} if no book can be baked
+		 */
+		public static @Nullable Contents of(BookPileBlockEntity bookPile) {
+			var books = bookPile.getBooks();
+			int size = books.size();
+			var stacks = new ItemStack[size];
+			var models = new BakedModel[size];
+			var layers = new int[size];
+			var angles = new int[size];
+			int bakedSlots = 0;
+
+			long seed = bookPile.getPos().asLong();
+			var modelSelection = bookPile.getModelSelection();
+
+			int layer = 0;
+			for (int slot = 0; slot < size; slot++) {
+				var stack = books.get(slot);
+				if (stack.isEmpty())
+					continue;
+
+				var model = modelSelection.getModel(slot, stack, bookPile.getCachedState(), bookPile.getWorld(), seed + layer * 20L);
+
+				if (StaticItemModels.canBake(stack, model)) {
+					stacks[slot] = stack.copy();
+					models[slot] = model;
+					layers[slot] = layer;
+					angles[slot] = bookPile.getBookAngle(layer);
+					bakedSlots |= 1 << slot;
+				}
+
+				layer++;
+			}
+
+			if (bakedSlots == 0)
+				return null;
+
+			var tracker = bookPile.getBakedSlots();
+			return new Contents(stacks, models, layers, angles, bakedSlots, tracker, tracker.getGeneration());
+		}
+	}
+}
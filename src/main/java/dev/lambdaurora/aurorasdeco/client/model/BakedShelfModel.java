@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client.model;
+
+import dev.lambdaurora.aurorasdeco.block.ShelfBlock;
+import dev.lambdaurora.aurorasdeco.block.entity.ShelfBlockEntity;
+import dev.lambdaurora.aurorasdeco.client.renderer.ShelfBlockEntityRenderer;
+import net.fabricmc.fabric.api.renderer.v1.model.ForwardingBakedModel;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachedBlockView;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.random.RandomGenerator;
+import net.minecraft.world.BlockRenderView;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.function.Supplier;
+
+/**
+ * Represents the shelf model.
+ * <p>
+ * The items of the shelf are emitted into the chunk mesh with the same placement as the
+ * {@linkplain ShelfBlockEntityRenderer block entity renderer}, which only renders the items with dynamic or glint rendering.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public class BakedShelfModel extends ForwardingBakedModel {
+	public BakedShelfModel(BakedModel baseModel) {
+		this.wrapped = baseModel;
+	}
+
+	@Override
+	public boolean isVanillaAdapter() {
+		return false;
+	}
+
+	@Override
+	public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<RandomGenerator> randomSupplier,
+			RenderContext context) {
+		super.emitBlockQuads(blockView, state, pos, randomSupplier, context);
+
+		var attachment = ((RenderAttachedBlockView) blockView).getBlockEntityRenderAttachment(pos);
+		if (!(attachment instanceof Contents contents) || !state.contains(ShelfBlock.FACING))
+			return;
+
+		var facing = state.get(ShelfBlock.FACING);
+		var matrices = new MatrixStack();
+
+		for (int slot = 0; slot < contents.models().length; slot++) {
+			var model = contents.models()[slot];
+			if (model == null)
+				continue;
+
+			var stack = contents.stacks()[slot];
+
+			matrices.push();
+			ShelfBlockEntityRenderer.applySlotTransform(matrices, facing, slot, model.hasDepth());
+			StaticItemModels.emit(context, stack, model, matrices, randomSupplier);
+			matrices.pop();
+		}
+
+		// Only reached when building the section of the shelf, unlike the capture of the render attachment.
+		contents.tracker().onBaked(contents.generation(), contents.bakedSlots());
+	}
+
+	/**
+	 * Represents the items of a shelf baked in the chunk mesh, captured when the chunk section is rebuilt.
+	 *
+	 * @param stacks the baked stacks, {@code null} for slots which are not baked
+	 * @param models the models of the baked stacks, {@code null} for slots which are not baked
+	 * @param bakedSlots the bit mask of the baked slots
+	 * @param tracker the tracker of the slots baked in the chunk mesh of the shelf
+	 * @param generation the generation of the contents of the shelf when captured
+	 */
+	public record Contents(ItemStack[] stacks, BakedModel[] models, int bakedSlots, BakedSlotTracker tracker, int generation) {
+		/**
+		 * Captures the items of the given shelf which can be baked in the chunk mesh.
+		 *
+		 * @param shelf the shelf
+		 * @return the captured contents, or {@code null} if no item can be baked
+		 */
+		public static @Nullable Contents of(ShelfBlockEntity shelf) {
+			int size = shelf.size();
+			var stacks = new ItemStack[size];
+			var models = new BakedModel[size];
+			int bakedSlots = 0;
+
+			var modelSelection = shelf.getModelSelection();
+
+			for (int slot = 0; slot < size; slot++) {
+				var stack = shelf.getStack(slot);
+				if (stack.isEmpty())
+					continue;
+
+				var model = modelSelection.getModel(slot, stack, shelf.getCachedState(), shelf.getWorld(), 0);
+
+				if (StaticItemModels.canBake(stack, model)) {
+					stacks[slot] = stack.copy();
+					models[slot] = model;
+					bakedSlots |= 1 << slot;
+				}
+			}
+
+			if (bakedSlots == 0)
+				return null;
+
+			var tracker = shelf.getBakedSlots();
+			return new Contents(stacks, models, bakedSlots, tracker, tracker.getGeneration());
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package dev.lambdaurora.aurorasdeco.client.model;
+
+import dev.lambdaurora.aurorasdeco.block.entity.MeshBakedBlockEntity;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+/**
+ * Tracks which slots of a {@linkplain MeshBakedBlockEntity mesh-baked block entity} are baked in the uploaded chunk mesh.
+ * <p>
+ * Render attachments are captured for every block entity of the rebuilt region, including the border shared with
+ * neighbor sections, so the baked slots are only recorded once the model of the block entity has been emitted into
+ * its own section mesh. Each change of the contents bumps the generation, so a mesh emitted from older contents is
+ * never adopted once uploaded.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class BakedSlotTracker {
+	/**
+	 * The generation of the contents, bumped on the main thread every time the contents change.
+	 */
+	private int generation;
+	/**
+	 * The generation in the high bits and the bit mask of the slots in the low bits of the last emitted mesh,
+	 * written from the chunk builder threads.
+	 */
+	private volatile long baked;
+	/**
+	 * The bit mask of the slots baked in the uploaded chunk mesh.
+	 */
+	private int uploaded;
+
+	/**
+	 * {@return the current generation of the contents}
+	 */
+	public int getGeneration() {
+		return this.generation;
+	}
+
+	/**
+	 * {@return {@code true} if the given slot is baked in the uploaded chunk mesh, or {@code false} otherwise}
+	 *
+	 * @param slot the slot
+	 */
+	public boolean contains(int slot) {
+		return (this.uploaded & (1 << slot)) != 0;
+	}
+
+	/**
+	 * Invalidates the baked slots after a change of the contents, until a mesh built from the new contents is uploaded.
+	 */
+	public void invalidate() {
+		this.generation++;
+		this.uploaded = 0;
+	}
+
+	/**
+	 * Records the slots emitted into the chunk section mesh of the block entity.
+	 *
+	 * @param generation the generation of the contents the slots were captured from
+	 * @param slots the bit mask of the emitted slots
+	 */
+	public void onBaked(int generation, int slots) {
+		this.baked = ((long) generation << 32) | (slots & 0xffffffffL);
+	}
+
+	/**
+	 * Adopts the last emitted slots once the chunk section mesh has been uploaded, if they match the current contents.
+	 */
+	public void onUploaded() {
+		long baked = this.baked;
+
+		if ((int) (baked >>> 32) == this.generation) {
+			this.uploaded = (int) baked;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client.model;
+
+import dev.lambdaurora.aurorasdeco.block.WallLanternBlock;
+import dev.lambdaurora.aurorasdeco.client.renderer.LanternBlockEntityRenderer;
+import dev.lambdaurora.aurorasdeco.hook.LBGHooks;
+import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
+import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
+import net.fabricmc.fabric.api.renderer.v1.model.ForwardingBakedModel;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.fabricmc.fabric.api.rendering.data.v1.RenderAttachedBlockView;
+import net.fabricmc.fabric.api.util.TriState;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayers;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.random.RandomGenerator;
+import net.minecraft.world.BlockRenderView;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.function.Supplier;
+
+/**
+ * Represents the wall lantern model.
+ * <p>
+ * Lanterns at rest are emitted into the chunk mesh along with their attachment,
+ * the {@linkplain LanternBlockEntityRenderer block entity renderer}
+ * only renders them while they move.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public class BakedWallLanternModel extends ForwardingBakedModel {
+	private final MinecraftClient client = MinecraftClient.getInstance();
+
+	public BakedWallLanternModel(BakedModel baseModel) {
+		this.wrapped = baseModel;
+	}
+
+	@Override
+	public boolean isVanillaAdapter() {
+		return false;
+	}
+
+	@Override
+	public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<RandomGenerator> randomSupplier,
+			RenderContext context) {
+		super.emitBlockQuads(blockView, state, pos, randomSupplier, context);
+
+		if (!(state.getBlock() instanceof WallLanternBlock<?> wallLanternBlock))
+			return;
+
+		var attachment = ((RenderAttachedBlockView) blockView).getBlockEntityRenderAttachment(pos);
+		if (attachment != Boolean.TRUE)
+			return;
+
+		var lanternState = wallLanternBlock.getLanternState(state);
+		var model = this.client.getBakedModelManager().getBlockModels().getModel(lanternState);
+
+		// Same placement as the block entity renderer, without the swaying rotation.
+		var transform = new Matrix4f().translation(8.f / 16.f, 12.f / 16.f, 8.f / 16.f)
+				.mul(LanternBlockEntityRenderer.createLanternTransform(state, lanternState, blockView, pos));
+		var material = RendererAccess.INSTANCE.getRenderer().materialFinder()
+				.blendMode(BlendMode.fromRenderLayer(RenderLayers.getBlockLayer(lanternState)))
+				.ambientOcclusion(model.useAmbientOcclusion() ? TriState.DEFAULT : TriState.FALSE)
+				.find();
+
+		context.pushTransform(quad -> {
+			Vector3f vec = null;
+			for (int i = 0; i < 4; i++) {
+				vec = quad.copyPos(i, vec);
+				transform.transformPosition(vec);
+				quad.pos(i, vec);
+
+				if (quad.hasNormal(i)) {
+					vec = quad.copyNormal(i, vec);
+					transform.transformDirection(vec);
+					quad.normal(i, vec);
+				}
+			}
+			quad.cullFace(null);
+			quad.material(material);
+			return true;
+		});
+		LBGHooks.pushDisableBetterLayer();
+		model.emitBlockQuads(blockView, lanternState, pos, randomSupplier, context);
+		LBGHooks.popDisableBetterLayer();
+		context.popTransform();
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client.model;
+
+import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
+import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
+import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.fabricmc.fabric.api.util.TriState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayers;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.json.ModelOverrideList;
+import net.minecraft.client.render.model.json.ModelTransformationMode;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.random.RandomGenerator;
+import org.joml.Vector3f;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.function.Supplier;
+
+/**
+ * Provides utilities to bake displayed items into the chunk mesh.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class StaticItemModels {
+	private StaticItemModels() {
+		throw new UnsupportedOperationException("StaticItemModels only contains static definitions.");
+	}
+
+	/**
+	 * {@return {@code true} if the given stack can be baked into the chunk mesh with the given model, or {@code false} otherwise}
+	 * <p>
+	 * Items with a built-in renderer, an enchantment glint or model overrides depending on the world stay dynamic.
+	 *
+	 * @param stack the stack
+	 * @param model the model to render the stack with
+	 */
+	public static boolean canBake(ItemStack stack, BakedModel model) {
+		if (model.isBuiltin() || stack.hasGlint())
+			return false;
+
+		var itemModel = MinecraftClient.getInstance().getItemRenderer().getModels().getModel(stack);
+		return itemModel.getOverrides() == ModelOverrideList.EMPTY;
+	}
+
+	/**
+	 * Emits the quads of the given item into the chunk mesh, as the item renderer would render it in a {@linkplain ModelTransformationMode#FIXED fixed} display.
+	 * <p>
+	 * The tint of the item is resolved with its item color provider and baked into the vertex colors,
+	 * as the chunk mesh would otherwise tint the quads with the color provider of the block.
+	 *
+	 * @param context the render context of the block
+	 * @param stack the stack
+	 * @param model the model to render the stack with
+	 * @param matrices the placement of the item relative to the block
+	 * @param randomSupplier the random supplier
+	 */
+	public static void emit(RenderContext context, ItemStack stack, BakedModel model, MatrixStack matrices,
+			Supplier<RandomGenerator> randomSupplier) {
+		matrices.push();
+		// Same as the item renderer.
+		model.getTransformation().getTransformation(ModelTransformationMode.FIXED).apply(false, matrices);
+		matrices.translate(-.5f, -.5f, -.5f);
+
+		var transform = matrices.peek().getModel();
+		var normalTransform = matrices.peek().getNormal();
+		var material = RendererAccess.INSTANCE.getRenderer().materialFinder()
+				.blendMode(getBlendMode(stack))
+				.ambientOcclusion(TriState.FALSE)
+				.find();
+		var colorProvider = ColorProviderRegistry.ITEM.get(stack.getItem());
+
+		context.pushTransform(quad -> {
+			int colorIndex = quad.colorIndex();
+			if (colorIndex != -1) {
+				// Same as the item renderer, the alpha of the tint is ignored.
+				int tint = colorProvider == null ? -1 : colorProvider.getColor(stack, colorIndex);
+
+				for (int i = 0; i < 4; i++) {
+					quad.color(i, multiplyColor(quad.color(i), tint));
+				}
+				quad.colorIndex(-1);
+			}
+
+			Vector3f vec = null;
+			for (int i = 0; i < 4; i++) {
+				vec = quad.copyPos(i, vec);
+				transform.transformPosition(vec);
+				quad.pos(i, vec);
+
+				if (quad.hasNormal(i)) {
+					vec = quad.copyNormal(i, vec);
+					normalTransform.transform(vec).normalize();
+					quad.normal(i, vec);
+				}
+			}
+			quad.cullFace(null);
+			quad.material(material);
+			return true;
+		});
+		model.emitItemQuads(stack, randomSupplier, context);
+		context.popTransform();
+		matrices.pop();
+	}
+
+	/**
+	 * {@return the blend mode of the given item, matching the render layer the item renderer would use}
+	 * <p>
+	 * Block items use the layer of their block, other items are rendered as translucent.
+	 *
+	 * @param stack the stack
+	 * @see RenderLayers#getItemLayer(ItemStack, boolean)
+	 */
+	private static BlendMode getBlendMode(ItemStack stack) {
+		if (stack.getItem() instanceof BlockItem blockItem) {
+			return BlendMode.fromRenderLayer(RenderLayers.getBlockLayer(blockItem.getBlock().getDefaultState()));
+		}
+
+		return BlendMode.TRANSLUCENT;
+	}
+
+	private static int multiplyColor(int color, int tint) {
+		int red = ((color >> 16) & 0xff) * ((tint >> 16) & 0xff) / 0xff;
+		int green = ((color >> 8) & 0xff) * ((tint >> 8) & 0xff) / 0xff;
+		int blue = (color & 0xff) * (tint & 0xff) / 0xff;
+		return (color & 0xff000000) | (red << 16) | (green << 8) | blue;
+	}
+}
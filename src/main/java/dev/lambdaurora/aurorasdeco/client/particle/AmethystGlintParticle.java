@@ -20,10 +20,18 @@ package dev.lambdaurora.aurorasdeco.client.particle;
 import net.minecraft.client.particle.*;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.particle.DefaultParticleType;
+import org.jetbrains.annotations.Nullable;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
+/**
+ * Represents an amethyst glint particle, spawned around amethyst lanterns.
+ * <p>
+ * Glints are {@linkplain ParticlePool pooled} with a budget.
+ */
 @ClientOnly
 public class AmethystGlintParticle extends SpriteBillboardParticle {
+	public static final ParticlePool<AmethystGlintParticle> POOL = new ParticlePool<>("aurorasdeco.amethyst_glint_budget", 256);
+
 	protected AmethystGlintParticle(ClientWorld clientWorld, double x, double y, double z,
 			double velocityX, double velocityY, double velocityZ) {
 		super(clientWorld, x, y, z, velocityX, velocityY, velocityZ);
@@ -38,6 +46,39 @@ public class AmethystGlintParticle extends SpriteBillboardParticle {
 		this.maxAge = 40;
 	}
 
+	/**
+	 * Reinitializes this dead particle taken from the {@linkplain #POOL pool} to spawn it again.
+	 *
+	 * @param x the X-coordinate of the particle
+	 * @param y the Y-coordinate of the particle
+	 * @param z the Z-coordinate of the particle
+	 * @param velocityY the initial vertical velocity of the particle
+	 */
+	protected void respawn(double x, double y, double z, double velocityY) {
+		this.dead = false;
+		this.age = 0;
+		this.setPos(x, y, z);
+		this.prevPosX = x;
+		this.prevPosY = y;
+		this.prevPosZ = z;
+
+		// Same initial velocity as a new particle, without the horizontal velocity.
+		double randomX = (Math.random() * 2.0 - 1.0) * 0.4;
+		double randomY = velocityY + (Math.random() * 2.0 - 1.0) * 0.4;
+		double randomZ = (Math.random() * 2.0 - 1.0) * 0.4;
+		double speed = (Math.random() + Math.random() + 1.0) * 0.15;
+		this.velocityY = (randomY / Math.sqrt(randomX * randomX + randomY * randomY + randomZ * randomZ) * speed * 0.4 + 0.1) * 0.15f;
+
+		this.scale = 0.1f * (this.random.nextFloat() * 0.5f + 0.5f) * 2.f;
+		this.scale *= this.random.nextFloat() * 0.4F + 0.7F;
+	}
+
+	@Override
+	public void tick() {
+		POOL.markTicked(this);
+		super.tick();
+	}
+
 	@Override
 	protected int getBrightness(float tint) {
 		return 0xf000f0;
@@ -50,12 +91,23 @@ public class AmethystGlintParticle extends SpriteBillboardParticle {
 
 	public record Factory(SpriteProvider spriteProvider) implements ParticleFactory<DefaultParticleType> {
 		@Override
-		public Particle createParticle(DefaultParticleType parameters, ClientWorld clientWorld, double x, double y, double z,
+		public @Nullable Particle createParticle(DefaultParticleType parameters, ClientWorld clientWorld, double x, double y, double z,
 				double velocityX, double velocityY, double velocityZ) {
+			if (!POOL.canSpawn(x, y, z))
+				return null;
+
 			var random = clientWorld.random;
-			var particle = new AmethystGlintParticle(clientWorld, x, y, z,
-					0.f, random.nextDouble() * -0.1, 0.f);
+			var particle = POOL.take();
+
+			if (particle == null || particle.world != clientWorld) {
+				particle = new AmethystGlintParticle(clientWorld, x, y, z,
+						0.f, random.nextDouble() * -0.1, 0.f);
+			} else {
+				particle.respawn(x, y, z, random.nextDouble() * -0.1);
+			}
+
 			particle.setSprite(this.spriteProvider());
+			POOL.track(particle);
 			return particle;
 		}
 	}
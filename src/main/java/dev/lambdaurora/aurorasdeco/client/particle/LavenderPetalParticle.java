@@ -18,6 +18,7 @@
 package dev.lambdaurora.aurorasdeco.client.particle;
 
 import dev.lambdaurora.aurorasdeco.client.Wind;
+import net.minecraft.block.BlockState;
 import net.minecraft.client.particle.*;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.Entity;
@@ -26,35 +27,53 @@ import net.minecraft.registry.tag.FluidTags;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
 
 import java.util.List;
 
 /**
  * Represents a lavender petal particle.
  * <p>
+ * Lavender fields can spawn a lot of petals, petals are thus {@linkplain ParticlePool pooled} with a budget,
+ * and their fluid and ground checks are cached for the block they are in.
+ * <p>
  * Inspired from the Falling Leaves mod:
  * https://github.com/RandomMcSomethin/fallingleaves/blob/main/src/main/java/randommcsomethin/fallingleaves/particle/FallingLeafParticle.java
  */
+@ClientOnly
 public class LavenderPetalParticle extends SpriteBillboardParticle {
 	private static final int FADE_DURATION = 16; // Ticks
+	private static final int FLUID_CHECK_INTERVAL = 20; // Ticks
 	private static final float WATER_FRICTION = 0.05f;
+	public static final ParticlePool<LavenderPetalParticle> POOL = new ParticlePool<>("aurorasdeco.lavender_petal_budget", 1024);
 
-	protected final float windCoefficient; // To emulate drag/lift
-	protected final float maxRotateSpeed; // Rotations / tick
-	protected final int maxRotateTime;
+	private final BlockPos.Mutable mutablePos = new BlockPos.Mutable();
+	protected float windCoefficient; // To emulate drag/lift
+	protected float maxRotateSpeed; // Rotations / tick
+	protected int maxRotateTime;
 	protected int rotateTime;
 	protected boolean stuckInGround = false;
+	private long fluidCheckPos;
+	private int nextFluidCheck;
+	private boolean inWater;
+	private BlockState groundState;
 
 	protected LavenderPetalParticle(ClientWorld clientWorld, double x, double y, double z,
 			double velocityX, double velocityY, double velocityZ) {
 		super(clientWorld, x, y, z, velocityX, velocityY, velocityZ);
 
+		this.init();
+	}
+
+	private void init() {
 		this.gravityStrength = 0.04f + random.nextFloat() * 0.02f;
 		this.windCoefficient = 0.6f + random.nextFloat() * 0.4f;
 
-		this.velocityX = Wind.get().getWindX() * 0.2f;
+		var wind = Wind.get().getSnapshot();
+		this.velocityX = wind.getWindX(this.x, this.z) * 0.2f;
 		this.velocityY *= 0.35f;
-		this.velocityZ = Wind.get().getWindZ() * 0.2f;
+		this.velocityZ = wind.getWindZ(this.x, this.z) * 0.2f;
 
 		this.maxAge = 200;
 
@@ -64,17 +83,51 @@ public class LavenderPetalParticle extends SpriteBillboardParticle {
 		this.angle = this.prevAngle = this.random.nextFloat() * MathHelper.TAU;
 
 		this.scale *= this.random.nextFloat() * 0.4f + 0.7f;
+
+		this.rotateTime = 0;
+		this.stuckInGround = false;
+		this.nextFluidCheck = 0;
+		this.groundState = null;
+	}
+
+	/**
+	 * Reinitializes this dead particle taken from the {@linkplain #POOL pool} to spawn it again.
+	 *
+	 * @param x the X-coordinate of the particle
+	 * @param y the Y-coordinate of the particle
+	 * @param z the Z-coordinate of the particle
+	 * @param velocityY the initial vertical velocity of the particle
+	 */
+	protected void respawn(double x, double y, double z, double velocityY) {
+		this.dead = false;
+		this.age = 0;
+		this.onGround = false;
+		this.colorAlpha = 1.f;
+		this.setPos(x, y, z);
+		this.prevPosX = x;
+		this.prevPosY = y;
+		this.prevPosZ = z;
+		this.scale = 0.1f * (this.random.nextFloat() * 0.5f + 0.5f) * 2.f;
+
+		// Same initial velocity as a new particle, the horizontal velocity is replaced by the wind anyway.
+		double randomX = (Math.random() * 2.0 - 1.0) * 0.4;
+		double randomY = velocityY + (Math.random() * 2.0 - 1.0) * 0.4;
+		double randomZ = (Math.random() * 2.0 - 1.0) * 0.4;
+		double speed = (Math.random() + Math.random() + 1.0) * 0.15;
+		this.velocityY = randomY / Math.sqrt(randomX * randomX + randomY * randomY + randomZ * randomZ) * speed * 0.4 + 0.1;
+
+		this.init();
 	}
 
 	@Override
 	public void tick() {
+		POOL.markTicked(this);
+
 		this.prevPosX = this.x;
 		this.prevPosY = this.y;
 		this.prevPosZ = this.z;
 		this.prevAngle = angle;
 
-		var pos = BlockPos.create(this.x, this.y, this.z);
-
 		this.age++;
 
 		// fade-out animation
@@ -87,7 +140,7 @@ public class LavenderPetalParticle extends SpriteBillboardParticle {
 			return;
 		}
 
-		if (this.world.getFluidState(pos).isIn(FluidTags.WATER)) {
+		if (this.isInWater()) {
 			// Float on water.
 			this.velocityY = 0.0;
 			this.rotateTime = 0;
@@ -95,6 +148,10 @@ public class LavenderPetalParticle extends SpriteBillboardParticle {
 			this.velocityX *= (1 - WATER_FRICTION);
 			this.velocityZ *= (1 - WATER_FRICTION);
 		} else {
+			// Stay stuck in the ground as long as the ground does not change.
+			if (this.stuckInGround && this.isGroundUnchanged())
+				return;
+
 			// Apply gravity
 			this.velocityY -= 0.04 * this.gravityStrength;
 
@@ -119,13 +176,40 @@ public class LavenderPetalParticle extends SpriteBillboardParticle {
 			// the wind coefficient is just another factor in (0, 1) to add some variance between leaves.
 			// this implementation lags behind the actual wind speed and will never reach it fully,
 			// so wind speeds needs to be adjusted accordingly
-			this.velocityX += (Wind.get().getWindX() - this.velocityX) * this.windCoefficient / 32.f;
-			this.velocityZ += (Wind.get().getWindZ() - this.velocityZ) * this.windCoefficient / 32.f;
+			var wind = Wind.get().getSnapshot();
+			this.velocityX += (wind.getWindX(this.x, this.z) - this.velocityX) * this.windCoefficient / 32.f;
+			this.velocityZ += (wind.getWindZ(this.x, this.z) - this.velocityZ) * this.windCoefficient / 32.f;
 		}
 
 		this.move(this.velocityX, this.velocityY, this.velocityZ);
 	}
 
+	/**
+	 * {@return {@code true} if this particle is in water, or {@code false} otherwise}
+	 * <p>
+	 * The fluid is only checked again once this particle enters another block, or after some time.
+	 */
+	private boolean isInWater() {
+		this.mutablePos.set(this.x, this.y, this.z);
+		long pos = this.mutablePos.asLong();
+
+		if (pos != this.fluidCheckPos || this.age >= this.nextFluidCheck) {
+			this.fluidCheckPos = pos;
+			this.nextFluidCheck = this.age + FLUID_CHECK_INTERVAL;
+			this.inWater = this.world.getFluidState(this.mutablePos).isIn(FluidTags.WATER);
+		}
+
+		return this.inWater;
+	}
+
+	/**
+	 * {@return {@code true} if the block this particle is stuck on has not changed, or {@code false} otherwise}
+	 */
+	private boolean isGroundUnchanged() {
+		this.mutablePos.set(this.x, this.getBoundingBox().minY - 1.0E-3, this.z);
+		return this.world.getBlockState(this.mutablePos) == this.groundState;
+	}
+
 	@Override
 	public void move(double dx, double dy, double dz) {
 		if (dx == 0.0 && dy == 0.0 && dz == 0.0) return;
@@ -151,6 +235,9 @@ public class LavenderPetalParticle extends SpriteBillboardParticle {
 			// Get stuck if slow enough.
 			if (!this.stuckInGround && Math.abs(dy) < 1E-5) {
 				this.stuckInGround = true;
+
+				this.mutablePos.set(this.x, this.getBoundingBox().minY - 1.0E-3, this.z);
+				this.groundState = this.world.getBlockState(this.mutablePos);
 			}
 		}
 
@@ -177,11 +264,22 @@ public class LavenderPetalParticle extends SpriteBillboardParticle {
 
 	public record Factory(SpriteProvider spriteProvider) implements ParticleFactory<DefaultParticleType> {
 		@Override
-		public Particle createParticle(DefaultParticleType parameters, ClientWorld clientWorld, double x, double y, double z,
+		public @Nullable Particle createParticle(DefaultParticleType parameters, ClientWorld clientWorld, double x, double y, double z,
 				double velocityX, double velocityY, double velocityZ) {
+			if (!POOL.canSpawn(x, y, z))
+				return null;
+
 			var random = clientWorld.random;
-			var particle = new LavenderPetalParticle(clientWorld, x, y, z, 0.f, random.nextDouble(), 0.f);
+			var particle = POOL.take();
+
+			if (particle == null || particle.world != clientWorld) {
+				particle = new LavenderPetalParticle(clientWorld, x, y, z, 0.f, random.nextDouble(), 0.f);
+			} else {
+				particle.respawn(x, y, z, random.nextDouble());
+			}
+
 			particle.setSprite(this.spriteProvider());
+			POOL.track(particle);
 			return particle;
 		}
 	}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.client.particle;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.particle.Particle;
+import org.jetbrains.annotations.Nullable;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents a pool of particles of a given type, with a budget of particles alive at once.
+ * <p>
+ * Particles which are no longer ticked by the particle manager are given back to the pool to be reused by the next spawned particles,
+ * whether they died of old age or were evicted by the particle manager.
+ * Once the pool fills its budget, particles far from the camera are refused first:
+ * the further a particle would be, the less of the budget has to be used for it to be refused.
+ *
+ * @param <P> the type of particles
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@ClientOnly
+public final class ParticlePool<P extends Particle> {
+	/**
+	 * The distance in blocks beyond which decorative particles are never spawned.
+	 */
+	private static final double SPAWN_DISTANCE = 32.0;
+	private static final List<ParticlePool<?>> POOLS = new ArrayList<>();
+
+	private final ArrayDeque<P> free = new ArrayDeque<>();
+	private final Set<P> alive = new ReferenceOpenHashSet<>();
+	private final Set<P> ticked = new ReferenceOpenHashSet<>();
+	private final int budget;
+
+	/**
+	 * Creates a new particle pool.
+	 *
+	 * @param budgetProperty the name of the system property to configure the budget with
+	 * @param defaultBudget the default budget, which is the maximum amount of particles alive at once
+	 */
+	public ParticlePool(String budgetProperty, int defaultBudget) {
+		this.budget = Math.max(0, Integer.getInteger(budgetProperty, defaultBudget));
+
+		POOLS.add(this);
+	}
+
+	/**
+	 * {@return the maximum amount of particles of this pool alive at once}
+	 */
+	public int getBudget() {
+		return this.budget;
+	}
+
+	/**
+	 * {@return the amount of particles of this pool currently alive}
+	 */
+	public int getAliveCount() {
+		return this.alive.size();
+	}
+
+	/**
+	 * {@return {@code true} if a particle can be spawned at the given position, or {@code false} otherwise}
+	 *
+	 * @param x the X-coordinate of the particle
+	 * @param y the Y-coordinate of the particle
+	 * @param z the Z-coordinate of the particle
+	 */
+	public boolean canSpawn(double x, double y, double z) {
+		int alive = this.alive.size();
+
+		if (alive >= this.budget)
+			return false;
+
+		var camera = MinecraftClient.getInstance().gameRenderer.getCamera().getPos();
+		double distance = camera.squaredDistanceTo(x, y, z) / (SPAWN_DISTANCE * SPAWN_DISTANCE);
+
+		return distance < 1.0 - (double) alive / this.budget;
+	}
+
+	/**
+	 * Takes a particle to spawn from this pool, the particle counts against the budget until it is no longer ticked.
+	 *
+	 * @return a free particle to reinitialize, or {@code null} if a new particle has to be created
+	 */
+	public @Nullable P take() {
+		return this.free.pollFirst();
+	}
+
+	/**
+	 * Tracks the given spawned particle, which has been {@linkplain #take() taken} from this pool.
+	 *
+	 * @param particle the spawned particle
+	 */
+	public void track(P particle) {
+		this.alive.add(particle);
+		// The particle is only added to the particle manager on its next tick.
+		this.ticked.add(particle);
+	}
+
+	/**
+	 * Marks the given particle as ticked by the particle manager, to be called each time the particle ticks.
+	 *
+	 * @param particle the ticked particle
+	 */
+	public void markTicked(P particle) {
+		this.ticked.add(particle);
+	}
+
+	/**
+	 * Gives back to this pool every particle which has not been ticked since the last call.
+	 * <p>
+	 * Any particle removed by the particle manager stops ticking, whether it died or was evicted,
+	 * which keeps the live count accurate.
+	 */
+	private void releaseUnticked() {
+		var it = this.alive.iterator();
+
+		while (it.hasNext()) {
+			var particle = it.next();
+
+			if (!this.ticked.contains(particle)) {
+				it.remove();
+
+				if (this.free.size() < this.budget)
+					this.free.addLast(particle);
+			}
+		}
+
+		this.ticked.clear();
+	}
+
+	/**
+	 * Gives back to every pool their particles which are no longer ticked, called after the particle manager ticked.
+	 */
+	public static void onParticlesTicked() {
+		for (var pool : POOLS) {
+			pool.releaseUnticked();
+		}
+	}
+
+	/**
+	 * Forgets every particle of every pool, used when the world changes as the particle manager drops all particles.
+	 */
+	public static void clearAll() {
+		for (var pool : POOLS) {
+			pool.free.clear();
+			pool.alive.clear();
+			pool.ticked.clear();
+		}
+	}
+}
@@ -17,7 +17,6 @@
 
 package dev.lambdaurora.aurorasdeco.client.renderer;
 
-import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
 import dev.lambdaurora.aurorasdeco.client.AurorasDecoClient;
 import dev.lambdaurora.aurorasdeco.client.BlackboardTexture;
 import net.fabricmc.fabric.api.client.rendering.v1.BuiltinItemRendererRegistry;
@@ -90,21 +89,13 @@ public class BlackboardItemRenderer implements BuiltinItemRendererRegistry.Dynam
 				matrices.scale(-1, -1, 1);
 			}
 
-			var blackboard = Blackboard.fromNbt(nbt);
-			BlackboardTexture.fromBlackboard(blackboard)
-					.render(
-							matrices.peek().getModel(), vertexConsumers,
-							blackboard.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : light,
-							false
-					);
+			var image = BlackboardTexture.getImage(stack, nbt);
+			var texture = BlackboardTexture.fromImage(image);
+			int boardLight = image.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : light;
+			texture.render(matrices.peek().getModel(), vertexConsumers, boardLight, false);
 
 			if (stack.getTranslationKey().contains("glass")) {
-				BlackboardTexture.fromBlackboard(blackboard)
-						.render(
-								matrices.peek().getModel(), vertexConsumers,
-								blackboard.isLit() ? LightmapTextureManager.MAX_BLOCK_LIGHT_COORDINATE : light,
-								true
-						);
+				texture.render(matrices.peek().getModel(), vertexConsumers, boardLight, true);
 			}
 		}
 		matrices.pop();
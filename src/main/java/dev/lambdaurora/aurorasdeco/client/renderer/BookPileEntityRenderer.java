@@ -18,7 +18,7 @@
 package dev.lambdaurora.aurorasdeco.client.renderer;
 
 import dev.lambdaurora.aurorasdeco.block.entity.BookPileBlockEntity;
-import dev.lambdaurora.aurorasdeco.client.RenderRule;
+import dev.lambdaurora.aurorasdeco.client.model.BakedBookPileModel;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
@@ -27,10 +27,11 @@ import net.minecraft.client.render.model.json.ModelTransformationMode;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.math.Axis;
 
-import java.util.Random;
-
 /**
  * Represents the book pile block entity renderer.
+ * <p>
+ * Most books are baked in the chunk mesh by the {@linkplain BakedBookPileModel book pile model},
+ * only books with dynamic or glint rendering are rendered here.
  *
  * @author LambdAurora
  * @version 1.0.0
@@ -44,49 +45,59 @@ public class BookPileEntityRenderer implements BlockEntityRenderer<BookPileBlock
 			int light, int overlay) {
 		long seed = bookPile.getPos().asLong();
 
-		var random = new Random(seed);
-
 		var renderer = MinecraftClient.getInstance().getItemRenderer();
+		var modelSelection = bookPile.getModelSelection();
+		var books = bookPile.getBooks();
 
-		matrices.push();
-		int i = 0;
-		for (var stack : bookPile.getBooks()) {
+		int layer = 0;
+		for (int slot = 0; slot < books.size(); slot++) {
+			var stack = books.get(slot);
 			if (stack.isEmpty())
 				continue;
 
-			var model = RenderRule.getModel(stack, bookPile.getCachedState(), bookPile.getWorld(), seed + i * 20L);
-			matrices.push();
+			// Books baked in the chunk mesh are not rendered here.
+			if (!bookPile.isRenderedStatically(slot)) {
+				var model = modelSelection.getModel(slot, stack, bookPile.getCachedState(), bookPile.getWorld(), seed + layer * 20L);
 
-			// Do the random rotation first on the Y axis.
-			{
-				matrices.translate(.5, 0, .5);
-				int angle = random.nextInt(360);
-				matrices.multiply(Axis.Y_POSITIVE.rotationDegrees(angle));
-				matrices.translate(-.5, 0, -.5);
+				matrices.push();
+				applyBookTransform(matrices, layer, bookPile.getBookAngle(layer), model.hasDepth());
+				renderer.renderItem(stack,
+						ModelTransformationMode.FIXED, false,
+						matrices, vertexConsumers,
+						light, overlay,
+						model);
+				matrices.pop();
 			}
 
-			// Makes the book lay on the floor.
-			matrices.translate(.5, .025, .5);
-			matrices.multiply(Axis.Z_POSITIVE.rotationDegrees(90));
-			matrices.translate(3 / 16.f - .15, 0, 0);
-			matrices.scale(.45f, .45f, .45f);
+			layer++;
+		}
+	}
 
-			if (model.hasDepth()) {
-				matrices.translate(0, -0.2, 0);
-			}
+	/**
+	 * Applies the placement of a book in a book pile, relative to the book pile block.
+	 *
+	 * @param matrices the matrices
+	 * @param layer the layer of the book in the pile, starting from the floor
+	 * @param angle the rotation of the book around the Y-axis, in degrees
+	 * @param hasDepth {@code true} if the model of the book has depth, or {@code false} otherwise
+	 */
+	public static void applyBookTransform(MatrixStack matrices, int layer, int angle, boolean hasDepth) {
+		// Each book lays on the previous one.
+		matrices.translate(0, 0.12 * layer, 0);
 
-			renderer.renderItem(stack,
-					ModelTransformationMode.FIXED, false,
-					matrices, vertexConsumers,
-					light, overlay,
-					model);
-			matrices.pop();
+		// Do the random rotation first on the Y axis.
+		matrices.translate(.5, 0, .5);
+		matrices.multiply(Axis.Y_POSITIVE.rotationDegrees(angle));
+		matrices.translate(-.5, 0, -.5);
 
-			// Translation for new book.
-			matrices.translate(0, 0.12, 0);
+		// Makes the book lay on the floor.
+		matrices.translate(.5, .025, .5);
+		matrices.multiply(Axis.Z_POSITIVE.rotationDegrees(90));
+		matrices.translate(3 / 16.f - .15, 0, 0);
+		matrices.scale(.45f, .45f, .45f);
 
-			i++;
+		if (hasDepth) {
+			matrices.translate(0, -0.2, 0);
 		}
-		matrices.pop();
 	}
 }
@@ -20,34 +20,126 @@ package dev.lambdaurora.aurorasdeco.client.renderer;
 import dev.lambdaurora.aurorasdeco.block.WallLanternBlock;
 import dev.lambdaurora.aurorasdeco.block.entity.LanternBlockEntity;
 import dev.lambdaurora.aurorasdeco.hook.LBGHooks;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.renderer.v1.model.FabricBakedModel;
+import net.minecraft.block.BlockState;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.RenderLayers;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.BakedQuad;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.math.Axis;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.random.LegacySimpleRandom;
 import net.minecraft.util.random.RandomGenerator;
 import net.minecraft.util.random.RandomSeed;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.EmptyBlockView;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * Renders the wall lanterns which are moving, lanterns at rest are part of the chunk mesh.
+ * <p>
+ * The quads of each lantern placement are baked once into a vertex array, only the swaying rotation is applied per frame.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ * @see dev.lambdaurora.aurorasdeco.client.model.BakedWallLanternModel
+ */
 @ClientOnly
 public class LanternBlockEntityRenderer extends SwayingBlockEntityRenderer<LanternBlockEntity> {
+	/**
+	 * The distance from the camera in blocks within which naturally swaying lanterns are rendered dynamically,
+	 * can be set with the {@code aurorasdeco.lantern_sway_distance} system property.
+	 */
+	public static final int NATURAL_SWAY_DISTANCE = Integer.getInteger("aurorasdeco.lantern_sway_distance", 32);
+	public static final int RENDER_DISTANCE = 128;
+	private static final Direction[] DIRECTIONS = Direction.values();
+
 	private final MinecraftClient client = MinecraftClient.getInstance();
 	private final RandomGenerator random = new LegacySimpleRandom(RandomSeed.generateUniqueSeed());
+	private final Map<QuadsKey, LanternQuads> quads = new Object2ObjectOpenHashMap<>();
+	private final float[] brightness = new float[DIRECTIONS.length * 2];
 
 	public LanternBlockEntityRenderer(BlockEntityRendererFactory.Context ctx) {}
 
 	@Override
 	public int getRenderDistance() {
-		return 128;
+		return RENDER_DISTANCE;
+	}
+
+	/**
+	 * {@return {@code true} if a naturally swaying lantern at the given position should be rendered dynamically, or {@code false} otherwise}
+	 *
+	 * @param pos the position of the lantern
+	 */
+	public static boolean isWithinNaturalSwayDistance(BlockPos pos) {
+		return isWithinNaturalSwayDistance(MinecraftClient.getInstance().gameRenderer.getCamera().getPos(), pos);
+	}
+
+	/**
+	 * {@return {@code true} if a naturally swaying lantern at the given position should be rendered dynamically, or {@code false} otherwise}
+	 *
+	 * @param camera the position of the camera
+	 * @param pos the position of the lantern
+	 */
+	public static boolean isWithinNaturalSwayDistance(Vec3d camera, BlockPos pos) {
+		return camera.squaredDistanceTo(pos.getX() + .5, pos.getY() + .5, pos.getZ() + .5)
+				< NATURAL_SWAY_DISTANCE * NATURAL_SWAY_DISTANCE;
+	}
+
+	/**
+	 * Creates the transformation from the lantern model space to the swaying pivot space of the given wall lantern.
+	 * <p>
+	 * The swaying pivot is located at {@code (8, 12, 8)} in the wall lantern block space.
+	 *
+	 * @param state the wall lantern state
+	 * @param lanternState the lantern state
+	 * @param world the world
+	 * @param pos the position of the wall lantern
+	 * @return the transformation
+	 */
+	public static Matrix4f createLanternTransform(BlockState state, BlockState lanternState, BlockView world, BlockPos pos) {
+		var facing = state.get(WallLanternBlock.FACING);
+		int extension = state.get(WallLanternBlock.EXTENSION).getOffset();
+
+		var lanternShape = lanternState.getOutlineShape(world, pos);
+		float size = (float) (lanternShape.getMax(Direction.Axis.Y) - lanternShape.getMin(Direction.Axis.Y));
+
+		return new Matrix4f()
+				.translation((-facing.getOffsetX() * extension) / 16.f, 0.f, (-facing.getOffsetZ() * extension) / 16.f)
+				.rotate(Axis.Y_NEGATIVE.rotationDegrees(getLanternRotation(facing)))
+				.translate(-8.f / 16.f, -1.f / 16.f - size, -8.f / 16.f);
+	}
+
+	private static int getLanternRotation(Direction facing) {
+		return switch (facing) {
+			case NORTH -> 90;
+			case EAST -> 180;
+			case SOUTH -> 270;
+			default -> 0;
+		};
 	}
 
 	@Override
 	public void render(LanternBlockEntity lantern, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
 			int light, int overlay) {
+		if (lantern.isRenderedStatically())
+			return; // Rendered in the chunk mesh.
+
 		var pos = lantern.getPos();
 
 		float pitch = 0.0F;
@@ -66,8 +158,10 @@ public class LanternBlockEntityRenderer extends SwayingBlockEntityRenderer<Lante
 			else pitch = angle;
 		}
 
+		var state = lantern.getCachedState();
 		var lanternState = lantern.getLanternState();
-		var consumer = vertexConsumers.getBuffer(RenderLayers.getBlockLayer(lanternState));
+		var quads = this.getQuads(state, lanternState);
+
 		matrices.push();
 
 		matrices.translate(8.f / 16.f, 12.f / 16.f, 8.f / 16.f);
@@ -76,31 +170,158 @@ public class LanternBlockEntityRenderer extends SwayingBlockEntityRenderer<Lante
 		if (pitch != 0.f)
 			matrices.multiply(Axis.X_POSITIVE.rotation(pitch));
 
-		var facing = lantern.getCachedState().get(WallLanternBlock.FACING);
-		int lanternRotation = switch (facing) {
-			case NORTH -> 90;
-			case EAST -> 180;
-			case SOUTH -> 270;
-			default -> 0;
-		};
-
-		int extension = lantern.getCachedState().get(WallLanternBlock.EXTENSION).getOffset();
-		matrices.translate((-facing.getOffsetX() * extension) / 16.f,
-				0.f,
-				(-facing.getOffsetZ() * extension) / 16.f);
+		if (quads.vertices != null) {
+			this.renderQuads(lantern, lanternState, quads, matrices.peek(), vertexConsumers, light, overlay);
+		} else {
+			// The lantern model cannot be baked into a vertex array, fallback to the block renderer.
+			var facing = state.get(WallLanternBlock.FACING);
+			int extension = state.get(WallLanternBlock.EXTENSION).getOffset();
+			matrices.translate((-facing.getOffsetX() * extension) / 16.f, 0.f, (-facing.getOffsetZ() * extension) / 16.f);
+			matrices.multiply(Axis.Y_NEGATIVE.rotationDegrees(getLanternRotation(facing)));
 
-		matrices.multiply(Axis.Y_NEGATIVE.rotationDegrees(lanternRotation));
+			var lanternShape = lanternState.getOutlineShape(lantern.getWorld(), pos);
+			var size = lanternShape.getMax(Direction.Axis.Y) - lanternShape.getMin(Direction.Axis.Y);
+			matrices.translate(-8.f / 16.f, -1.f / 16.f - size, -8.f / 16.f);
 
-		var lanternShape = lanternState.getOutlineShape(lantern.getWorld(), pos);
-		var lanternShapeMaxY = lanternShape.getMax(Direction.Axis.Y);
-		var lanternShapeMinY = lanternShape.getMin(Direction.Axis.Y);
-		var size = lanternShapeMaxY - lanternShapeMinY;
-		matrices.translate(-8.f / 16.f, -1.f / 16.f - size, -8.f / 16.f);
+			LBGHooks.pushDisableBetterLayer();
+			this.client.getBlockRenderManager().renderBlock(lanternState, pos, lantern.getWorld(), matrices,
+					vertexConsumers.getBuffer(quads.layer), false, this.random);
+			LBGHooks.popDisableBetterLayer();
+		}
 
-		LBGHooks.pushDisableBetterLayer();
-		this.client.getBlockRenderManager().renderBlock(lanternState, pos, lantern.getWorld(), matrices, consumer,
-				false, this.random);
-		LBGHooks.popDisableBetterLayer();
 		matrices.pop();
 	}
+
+	private void renderQuads(LanternBlockEntity lantern, BlockState lanternState, LanternQuads quads, MatrixStack.Entry entry,
+			VertexConsumerProvider vertexConsumers, int light, int overlay) {
+		var world = lantern.getWorld();
+		var consumer = vertexConsumers.getBuffer(quads.layer);
+		var model = entry.getModel();
+		var normalMatrix = entry.getNormal();
+
+		for (var direction : DIRECTIONS) {
+			this.brightness[direction.getId() * 2] = world.getBrightness(direction, false);
+			this.brightness[direction.getId() * 2 + 1] = world.getBrightness(direction, true);
+		}
+
+		var vertices = quads.vertices;
+		for (int quad = 0; quad < quads.faces.length; quad++) {
+			var face = quads.faces[quad];
+			float brightness = this.brightness[face.getId() * 2 + (quads.shaded[quad] ? 1 : 0)];
+			float red = brightness, green = brightness, blue = brightness;
+
+			int tint = quads.tints[quad];
+			if (tint != -1) {
+				int color = this.client.getBlockColors().getColor(lanternState, world, lantern.getPos(), tint);
+				red *= (color >> 16 & 255) / 255.f;
+				green *= (color >> 8 & 255) / 255.f;
+				blue *= (color & 255) / 255.f;
+			}
+
+			for (int vertex = 0; vertex < 4; vertex++) {
+				int index = quad * 4 + vertex;
+				int offset = index * LanternQuads.VERTEX_STRIDE;
+				int color = quads.colors[index];
+
+				consumer.vertex(model, vertices[offset], vertices[offset + 1], vertices[offset + 2])
+						.color(red * (color & 255) / 255.f, green * (color >> 8 & 255) / 255.f,
+								blue * (color >> 16 & 255) / 255.f, 1.f)
+						.uv(vertices[offset + 3], vertices[offset + 4])
+						.overlay(overlay)
+						.light(light)
+						.normal(normalMatrix, face.getOffsetX(), face.getOffsetY(), face.getOffsetZ())
+						.next();
+			}
+		}
+	}
+
+	private LanternQuads getQuads(BlockState state, BlockState lanternState) {
+		var model = this.client.getBakedModelManager().getBlockModels().getModel(lanternState);
+		var key = new QuadsKey(lanternState, state.get(WallLanternBlock.FACING), state.get(WallLanternBlock.EXTENSION).getOffset());
+		var quads = this.quads.get(key);
+
+		// Models are replaced on resource reload.
+		if (quads == null || quads.model != model) {
+			quads = LanternQuads.bake(state, lanternState, model);
+			this.quads.put(key, quads);
+		}
+
+		return quads;
+	}
+
+	private record QuadsKey(BlockState lanternState, Direction facing, int extension) {}
+
+	/**
+	 * Represents the baked quads of a lantern placement, transformed to the swaying pivot space.
+	 *
+	 * @param model the model the quads have been baked from
+	 * @param layer the render layer of the lantern
+	 * @param vertices the position and texture coordinates of each vertex, or {@code null} if the model cannot be baked
+	 * @param colors the color of each vertex in the ABGR format
+	 * @param faces the facing of each quad once placed
+	 * @param shaded {@code true} for each quad which is shaded, or {@code false} otherwise
+	 * @param tints the tint index of each quad
+	 */
+	private record LanternQuads(BakedModel model, RenderLayer layer, float @Nullable [] vertices, int[] colors,
+			Direction[] faces, boolean[] shaded, int[] tints) {
+		private static final int VERTEX_STRIDE = 5;
+		/**
+		 * The size in integers of a vertex in baked quads.
+		 */
+		private static final int BAKED_VERTEX_STRIDE = 8;
+
+		static LanternQuads bake(BlockState state, BlockState lanternState, BakedModel model) {
+			var layer = RenderLayers.getBlockLayer(lanternState);
+
+			if (!((FabricBakedModel) model).isVanillaAdapter()) {
+				return new LanternQuads(model, layer, null, new int[0], new Direction[0], new boolean[0], new int[0]);
+			}
+
+			var random = new LegacySimpleRandom(42L);
+			var bakedQuads = new ArrayList<BakedQuad>();
+			for (var direction : DIRECTIONS) {
+				random.setSeed(42L);
+				bakedQuads.addAll(model.getQuads(lanternState, direction, random));
+			}
+			random.setSeed(42L);
+			bakedQuads.addAll(model.getQuads(lanternState, null, random));
+
+			// The lantern shape doesn't depend on its position.
+			var transform = createLanternTransform(state, lanternState, EmptyBlockView.INSTANCE, BlockPos.ORIGIN);
+			var vertices = new float[bakedQuads.size() * 4 * VERTEX_STRIDE];
+			var colors = new int[bakedQuads.size() * 4];
+			var faces = new Direction[bakedQuads.size()];
+			var shaded = new boolean[bakedQuads.size()];
+			var tints = new int[bakedQuads.size()];
+			var vec = new Vector3f();
+
+			for (int quad = 0; quad < bakedQuads.size(); quad++) {
+				var bakedQuad = bakedQuads.get(quad);
+				int[] data = bakedQuad.getVertexData();
+
+				for (int vertex = 0; vertex < 4; vertex++) {
+					int index = quad * 4 + vertex;
+					int in = vertex * BAKED_VERTEX_STRIDE;
+					int out = index * VERTEX_STRIDE;
+
+					transform.transformPosition(Float.intBitsToFloat(data[in]), Float.intBitsToFloat(data[in + 1]),
+							Float.intBitsToFloat(data[in + 2]), vec);
+					vertices[out] = vec.x();
+					vertices[out + 1] = vec.y();
+					vertices[out + 2] = vec.z();
+					vertices[out + 3] = Float.intBitsToFloat(data[in + 4]);
+					vertices[out + 4] = Float.intBitsToFloat(data[in + 5]);
+					colors[index] = data[in + 3];
+				}
+
+				var face = bakedQuad.getFace();
+				transform.transformDirection(face.getOffsetX(), face.getOffsetY(), face.getOffsetZ(), vec);
+				faces[quad] = Direction.getFacing(vec.x(), vec.y(), vec.z());
+				shaded[quad] = bakedQuad.hasShade();
+				tints[quad] = bakedQuad.hasColor() ? bakedQuad.getColorIndex() : -1;
+			}
+
+			return new LanternQuads(model, layer, vertices, colors, faces, shaded, tints);
+		}
+	}
 }
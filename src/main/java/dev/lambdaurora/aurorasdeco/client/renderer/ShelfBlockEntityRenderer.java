@@ -19,7 +19,7 @@ package dev.lambdaurora.aurorasdeco.client.renderer;
 
 import dev.lambdaurora.aurorasdeco.block.ShelfBlock;
 import dev.lambdaurora.aurorasdeco.block.entity.ShelfBlockEntity;
-import dev.lambdaurora.aurorasdeco.client.RenderRule;
+import dev.lambdaurora.aurorasdeco.client.model.BakedShelfModel;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
@@ -31,6 +31,9 @@ import net.minecraft.util.math.Direction;
 
 /**
  * Represents the shelf block entity renderer.
+ * <p>
+ * Most items are baked in the chunk mesh by the {@linkplain BakedShelfModel shelf model},
+ * only items with dynamic or glint rendering are rendered here.
  *
  * @author LambdAurora
  * @version 1.0.0
@@ -43,8 +46,40 @@ public class ShelfBlockEntityRenderer implements BlockEntityRenderer<ShelfBlockE
 	public void render(ShelfBlockEntity shelf, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
 			int light, int overlay) {
 		var facing = shelf.getCachedState().get(ShelfBlock.FACING);
+		var renderer = MinecraftClient.getInstance().getItemRenderer();
+		var modelSelection = shelf.getModelSelection();
+
+		for (int slot = 0; slot < shelf.size(); slot++) {
+			// Items baked in the chunk mesh are not rendered here.
+			if (shelf.isRenderedStatically(slot))
+				continue;
+
+			var stack = shelf.getStack(slot);
+			if (stack.isEmpty())
+				continue;
+
+			var model = modelSelection.getModel(slot, stack, shelf.getCachedState(), shelf.getWorld(), 0);
+
+			matrices.push();
+			applySlotTransform(matrices, facing, slot, model.hasDepth());
+			renderer.renderItem(stack,
+					ModelTransformationMode.FIXED, false,
+					matrices, vertexConsumers,
+					light, overlay,
+					model);
+			matrices.pop();
+		}
+	}
 
-		matrices.push();
+	/**
+	 * Applies the placement of the item in the given slot of a shelf, relative to the shelf block.
+	 *
+	 * @param matrices the matrices
+	 * @param facing the facing of the shelf
+	 * @param slot the slot of the item
+	 * @param hasDepth {@code true} if the model of the item has depth, or {@code false} otherwise
+	 */
+	public static void applySlotTransform(MatrixStack matrices, Direction facing, int slot, boolean hasDepth) {
 		matrices.translate(0.5, 0.8, 0.5);
 		matrices.multiply(Axis.Y_POSITIVE.rotationDegrees(facing.asRotation()));
 
@@ -55,40 +90,13 @@ public class ShelfBlockEntityRenderer implements BlockEntityRenderer<ShelfBlockE
 
 		matrices.scale(.24f, .24f, .24f);
 
-		var renderer = MinecraftClient.getInstance().getItemRenderer();
-
-		for (int y = 0; y < 2; y++) {
-			if (y != 0) {
-				matrices.translate(0, -.5 / .24, 0);
-			}
-
-			matrices.push();
-			for (int x = 0; x < 4; x++) {
-				if (x != 0) {
-					matrices.translate(-1.f, 0.f, 0.f);
-				}
-
-				var stack = shelf.getStack(x + y * 4);
-				if (stack.isEmpty())
-					continue;
+		// 4 items per row, 2 rows.
+		int x = slot % 4;
+		int y = slot / 4;
+		matrices.translate(-x, -y * .5 / .24, 0);
 
-				var model = RenderRule.getModel(stack, shelf.getCachedState(), shelf.getWorld(), 0);
-
-				matrices.push();
-				if (model.hasDepth()) {
-					matrices.translate(0, -0.2, 0);
-				}
-
-				renderer.renderItem(stack,
-						ModelTransformationMode.FIXED, false,
-						matrices, vertexConsumers,
-						light, overlay,
-						model);
-				matrices.pop();
-			}
-			matrices.pop();
+		if (hasDepth) {
+			matrices.translate(0, -0.2, 0);
 		}
-
-		matrices.pop();
 	}
 }
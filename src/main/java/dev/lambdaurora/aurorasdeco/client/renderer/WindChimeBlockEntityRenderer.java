@@ -19,20 +19,36 @@ package dev.lambdaurora.aurorasdeco.client.renderer;
 
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
 import dev.lambdaurora.aurorasdeco.block.entity.WindChimeBlockEntity;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
 import net.minecraft.client.model.*;
 import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
 import net.minecraft.client.render.entity.model.EntityModelLayer;
 import net.minecraft.client.resource.Material;
+import net.minecraft.client.texture.Sprite;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.screen.PlayerScreenHandler;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Renders wind chimes.
+ * <p>
+ * The geometry of each chime is baked once into a {@linkplain ChimeTemplate template},
+ * which is transformed and written directly to the vertex consumer for every chime of every wind chime.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
 @ClientOnly
 public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChimeBlockEntity> {
 	public static final EntityModelLayer WIND_CHIME_MODEL_LAYER = new EntityModelLayer(AurorasDeco.id("wind_chime"),
@@ -54,14 +70,18 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 			new ChimeData(5, 8, 11, 7)
 	);
 
-	private final ModelPart root;
-	private final List<ModelPart> chimes = new ArrayList<>();
+	private final ChimeTemplate[] templates = new ChimeTemplate[CHIMES.size()];
+	private @Nullable Sprite sprite;
+	private final Matrix4f chimeModel = new Matrix4f();
+	private final Matrix3f chimeNormal = new Matrix3f();
+	private final Vector3f position = new Vector3f();
+	private final Vector3f normal = new Vector3f();
 
 	public WindChimeBlockEntityRenderer(BlockEntityRendererFactory.Context ctx) {
-		this.root = ctx.getLayerModelPart(WIND_CHIME_MODEL_LAYER);
+		var root = ctx.getLayerModelPart(WIND_CHIME_MODEL_LAYER);
 
-		for (int i = 0; i < 6; i++) {
-			chimes.add(this.root.getChild("chime" + (i + 1) + "_body"));
+		for (var chime : CHIMES) {
+			this.templates[chime.index()] = ChimeTemplate.bake(root.getChild("chime" + (chime.index() + 1) + "_body"));
 		}
 	}
 
@@ -94,14 +114,58 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 	@Override
 	public void render(WindChimeBlockEntity entity, float tickDelta, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
 			int light, int overlay) {
-		this.chimes.forEach(model -> {
-			model.pitch = entity.getPitch(tickDelta);
-			model.roll = entity.getRoll(tickDelta);
-		});
-		CHIMES.forEach(chime -> chime.apply(this, entity.getPitch(tickDelta), entity.getRoll(tickDelta)));
-
-		this.root.render(matrices, WIND_CHIME_TEXTURE.getVertexConsumer(vertexConsumers, RenderLayer::getEntitySolid),
-				light, overlay);
+		var sprite = WIND_CHIME_TEXTURE.getSprite();
+		if (sprite != this.sprite) {
+			// The atlas has been reloaded, bake the texture coordinates again.
+			this.sprite = sprite;
+
+			for (var template : this.templates) {
+				template.applySprite(sprite);
+			}
+		}
+
+		float pitch = entity.getPitch(tickDelta);
+		float roll = entity.getRoll(tickDelta);
+
+		var consumer = vertexConsumers.getBuffer(WIND_CHIME_TEXTURE.getRenderLayer(RenderLayer::getEntitySolid));
+		var entry = matrices.peek();
+
+		for (int i = 0; i < this.templates.length; i++) {
+			var chime = CHIMES.get(i);
+			var template = this.templates[i];
+
+			float chimePitch = chime.getPitch(pitch);
+			float chimeRoll = chime.getRoll(roll);
+
+			this.chimeModel.set(entry.getModel())
+					.translate(template.pivotX, template.pivotY, template.pivotZ)
+					.rotateZYX(chimeRoll, 0.f, chimePitch);
+			this.chimeNormal.set(entry.getNormal()).rotateZYX(chimeRoll, 0.f, chimePitch);
+
+			this.renderChime(template, consumer, light, overlay);
+		}
+	}
+
+	private void renderChime(ChimeTemplate template, VertexConsumer consumer, int light, int overlay) {
+		var vertices = template.vertices;
+		var uvs = template.uvs;
+		var normals = template.normals;
+
+		for (int quad = 0; quad < normals.length / 3; quad++) {
+			this.chimeNormal.transform(normals[quad * 3], normals[quad * 3 + 1], normals[quad * 3 + 2], this.normal);
+
+			for (int vertex = 0; vertex < 4; vertex++) {
+				int index = quad * 4 + vertex;
+				this.chimeModel.transformPosition(vertices[index * 3], vertices[index * 3 + 1], vertices[index * 3 + 2],
+						this.position);
+
+				consumer.vertex(this.position.x(), this.position.y(), this.position.z(),
+						1.f, 1.f, 1.f, 1.f,
+						uvs[index * 2], uvs[index * 2 + 1],
+						overlay, light,
+						this.normal.x(), this.normal.y(), this.normal.z());
+			}
+		}
 	}
 
 	record ChimeData(int index, float x, float z, float size) {
@@ -113,15 +177,26 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 			return 8 - this.z();
 		}
 
-		void apply(WindChimeBlockEntityRenderer renderer, float pitch, float roll) {
-			var model = renderer.chimes.get(this.index());
-
+		/**
+		 * {@return the pitch of this chime}
+		 *
+		 * @param pitch the pitch of the wind chime
+		 */
+		float getPitch(float pitch) {
 			float distanceZ = this.getDistanceZ();
 			if (distanceZ < 0 && pitch > 0 || distanceZ > 0 && pitch < 0) {
 				pitch -= (pitch * pitch * distanceZ / 8.f) / pitch;
 			}
-			model.pitch = pitch;
 
+			return pitch;
+		}
+
+		/**
+		 * {@return the roll of this chime}
+		 *
+		 * @param roll the roll of the wind chime
+		 */
+		float getRoll(float roll) {
 			float distanceX = this.getDistanceX();
 
 			if (distanceX == 0) {
@@ -135,7 +210,86 @@ public class WindChimeBlockEntityRenderer implements BlockEntityRenderer<WindChi
 			if (distanceX < 0 && roll < 0 || distanceX > 0 && roll > 0) {
 				roll += (roll * roll * distanceX / 8.f) / roll;
 			}
-			model.roll = roll;
+
+			return roll;
+		}
+	}
+
+	/**
+	 * Represents the geometry of a chime baked from its model part, relative to the pivot of the chime.
+	 * <p>
+	 * Each chime of every wind chime is rendered by transforming this template, instead of posing and rendering the model parts.
+	 */
+	private static final class ChimeTemplate {
+		private final float pivotX;
+		private final float pivotY;
+		private final float pivotZ;
+		/**
+		 * The positions of the vertices, 4 per quad.
+		 */
+		private final float[] vertices;
+		/**
+		 * The texture coordinates of the vertices in the texture of the model.
+		 */
+		private final float[] textureUvs;
+		/**
+		 * The texture coordinates of the vertices in the block atlas.
+		 */
+		private final float[] uvs;
+		/**
+		 * The normals of the quads.
+		 */
+		private final float[] normals;
+
+		private ChimeTemplate(float pivotX, float pivotY, float pivotZ, float[] vertices, float[] textureUvs, float[] normals) {
+			this.pivotX = pivotX;
+			this.pivotY = pivotY;
+			this.pivotZ = pivotZ;
+			this.vertices = vertices;
+			this.textureUvs = textureUvs;
+			this.uvs = new float[textureUvs.length];
+			this.normals = normals;
+		}
+
+		static ChimeTemplate bake(ModelPart part) {
+			var vertices = new FloatArrayList();
+			var textureUvs = new FloatArrayList();
+			var normals = new FloatArrayList();
+
+			float pivotX = part.pivotX / 16.f;
+			float pivotY = part.pivotY / 16.f;
+			float pivotZ = part.pivotZ / 16.f;
+
+			// The chime is at rest while baking, its transformation is only the translation to its pivot.
+			part.forEachCuboid(new MatrixStack(), (matrix, path, index, cuboid) -> {
+				var model = matrix.getModel();
+				var position = new Vector3f();
+
+				for (var quad : cuboid.sides) {
+					normals.add(quad.direction.x());
+					normals.add(quad.direction.y());
+					normals.add(quad.direction.z());
+
+					for (var vertex : quad.vertices) {
+						model.transformPosition(vertex.pos.x() / 16.f, vertex.pos.y() / 16.f, vertex.pos.z() / 16.f, position);
+						vertices.add(position.x() - pivotX);
+						vertices.add(position.y() - pivotY);
+						vertices.add(position.z() - pivotZ);
+						textureUvs.add(vertex.u);
+						textureUvs.add(vertex.v);
+					}
+				}
+			});
+
+			return new ChimeTemplate(pivotX, pivotY, pivotZ,
+					vertices.toFloatArray(), textureUvs.toFloatArray(), normals.toFloatArray());
+		}
+
+		void applySprite(Sprite sprite) {
+			for (int i = 0; i < this.textureUvs.length; i += 2) {
+				this.uvs[i] = sprite.getFrameU(this.textureUvs[i] * 16.f);
+				this.uvs[i + 1] = sprite.getFrameV(this.textureUvs[i + 1] * 16.f);
+			}
 		}
 	}
 }
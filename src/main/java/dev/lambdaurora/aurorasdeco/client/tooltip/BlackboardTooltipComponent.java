@@ -18,7 +18,7 @@
 package dev.lambdaurora.aurorasdeco.client.tooltip;
 
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
-import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImage;
 import dev.lambdaurora.aurorasdeco.client.BlackboardTexture;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
@@ -47,14 +47,14 @@ public class BlackboardTooltipComponent implements TooltipComponent {
 	private final MinecraftClient client = MinecraftClient.getInstance();
 	private final BlackboardTexture texture;
 	private final RenderLayer background;
-	private final Blackboard blackboard;
+	private final BlackboardImage image;
 	private final boolean locked;
 
-	public BlackboardTooltipComponent(String background, Blackboard blackboard, boolean locked) {
+	public BlackboardTooltipComponent(String background, BlackboardImage image, boolean locked) {
 		this.background = RenderLayer.getText(AurorasDeco.id("textures/block/blackboard/" + background + ".png"));
-		this.blackboard = blackboard;
+		this.image = image;
 		this.locked = locked;
-		this.texture = BlackboardTexture.fromBlackboard(blackboard);
+		this.texture = BlackboardTexture.fromImage(image);
 	}
 
 	@Override
@@ -82,7 +82,7 @@ public class BlackboardTooltipComponent implements TooltipComponent {
 		matrices.translate(0, 0, 1);
 		this.texture.render(model, vertexConsumers, LightmapTextureManager.MAX_LIGHT_COORDINATE, false);
 
-		if (this.blackboard.isLit()) {
+		if (this.image.isLit()) {
 			matrices.push();
 			matrices.translate(0, 0, 1);
 			model = matrices.peek().getModel();
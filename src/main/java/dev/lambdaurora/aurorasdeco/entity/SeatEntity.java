@@ -26,11 +26,16 @@ import net.minecraft.nbt.NbtCompound;
 import net.minecraft.network.listener.ClientPlayPacketListener;
 import net.minecraft.network.packet.Packet;
 import net.minecraft.network.packet.s2c.play.EntitySpawnS2CPacket;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a placeholder entity to make another entity seat on a {@link SeatBlock}.
+ * <p>
+ * On the server, seats are {@linkplain SeatIndex indexed} by the position of their seat block.
+ * They are removed once their passenger dismounts or once their seat block is replaced, instead of checking it every tick.
  *
  * @author LambdAurora
  * @version 1.0.0
@@ -38,6 +43,7 @@ import net.minecraft.world.World;
  */
 public class SeatEntity extends Entity {
 	private boolean timeout = false;
+	private @Nullable BlockPos seatPos;
 
 	public SeatEntity(EntityType<?> type, World world) {
 		super(type, world);
@@ -45,10 +51,40 @@ public class SeatEntity extends Entity {
 		this.noClip = true;
 	}
 
+	/**
+	 * {@return {@code true} if this seat is being moved by a piston, or {@code false} otherwise}
+	 */
+	public boolean hasTimeout() {
+		return this.timeout;
+	}
+
 	public void setTimeout(boolean timeout) {
 		this.timeout = timeout;
 	}
 
+	/**
+	 * {@return the position of the seat block of this seat, or {@code null} if it is not indexed}
+	 */
+	public @Nullable BlockPos getSeatPos() {
+		return this.seatPos;
+	}
+
+	/**
+	 * Attaches this seat to the seat block at the given position.
+	 *
+	 * @param pos the position of the seat block
+	 */
+	public void attachTo(BlockPos pos) {
+		if (this.getWorld().isClient())
+			return;
+
+		if (this.seatPos != null)
+			SeatIndex.remove(this, this.seatPos);
+
+		this.seatPos = pos.toImmutable();
+		SeatIndex.put(this, this.seatPos);
+	}
+
 	@Override
 	protected void initDataTracker() {
 	}
@@ -104,15 +140,32 @@ public class SeatEntity extends Entity {
 	public void tick() {
 		super.tick();
 
-		if (!this.getWorld().isClient()) {
-			var state = this.getWorld().getBlockState(this.getBlockPos());
+		if (!this.getWorld().isClient() && this.seatPos == null) {
+			// The seat has been loaded, check its seat block once before indexing it.
+			var pos = this.getBlockPos();
+			var state = this.getWorld().getBlockState(pos);
 			if (!(state.getBlock() instanceof SeatBlock || this.timeout) || !this.hasPassengers())
 				this.discard();
+			else
+				this.attachTo(pos);
 		}
 	}
 
 	@Override
 	protected void removePassenger(Entity passenger) {
 		super.removePassenger(passenger);
+
+		if (!this.getWorld().isClient() && !this.isRemoved() && !this.hasPassengers())
+			this.discard();
+	}
+
+	@Override
+	public void setRemoved(RemovalReason reason) {
+		super.setRemoved(reason);
+
+		if (this.seatPos != null) {
+			SeatIndex.remove(this, this.seatPos);
+			this.seatPos = null;
+		}
 	}
 }
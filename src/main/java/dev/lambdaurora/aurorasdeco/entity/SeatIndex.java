@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Indexes the active seats of the server worlds by the position of their seat block.
+ * <p>
+ * Seats register themselves once they are in the world and unregister once removed,
+ * so seat blocks and pistons can find the seat of a block without scanning entities.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SeatIndex {
+	private static final Map<World, Long2ObjectMap<SeatEntity>> SEATS = new WeakHashMap<>();
+
+	private SeatIndex() {
+		throw new UnsupportedOperationException("SeatIndex only contains static definitions.");
+	}
+
+	private static Long2ObjectMap<SeatEntity> getSeats(World world) {
+		return SEATS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+	}
+
+	/**
+	 * {@return the seat of the seat block at the given position, or {@code null} if there is none}
+	 *
+	 * @param world the world
+	 * @param pos the position of the seat block
+	 */
+	public static @Nullable SeatEntity get(World world, BlockPos pos) {
+		var seats = SEATS.get(world);
+		return seats == null ? null : seats.get(pos.asLong());
+	}
+
+	static void put(SeatEntity seat, BlockPos pos) {
+		getSeats(seat.getWorld()).put(pos.asLong(), seat);
+	}
+
+	static void remove(SeatEntity seat, BlockPos pos) {
+		var seats = SEATS.get(seat.getWorld());
+
+		if (seats != null)
+			seats.remove(pos.asLong(), seat);
+	}
+
+	/**
+	 * {@return the amount of active seats in the given world}
+	 *
+	 * @param world the world
+	 */
+	public static int size(World world) {
+		var seats = SEATS.get(world);
+		return seats == null ? 0 : seats.size();
+	}
+}
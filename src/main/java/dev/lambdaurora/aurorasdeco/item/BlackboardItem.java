@@ -116,10 +116,9 @@ public class BlackboardItem extends BlockItem {
 	public Optional<TooltipData> getTooltipData(ItemStack stack) {
 		var nbt = BlockItem.getBlockEntityNbtFromStack(stack);
 		if (nbt != null && nbt.contains("pixels", NbtElement.BYTE_ARRAY_TYPE)) {
-			var blackboard = Blackboard.fromNbt(nbt);
 			return Optional.of(new BlackboardTooltipData(
 					Registries.ITEM.getId(this).getPath().replace("waxed_", ""),
-					blackboard, this.locked)
+					stack, nbt, this.locked)
 			);
 		}
 		return super.getTooltipData(stack);
@@ -18,12 +18,10 @@
 package dev.lambdaurora.aurorasdeco.mixin.block;
 
 import dev.lambdaurora.aurorasdeco.block.SeatBlock;
-import dev.lambdaurora.aurorasdeco.entity.SeatEntity;
+import dev.lambdaurora.aurorasdeco.entity.SeatIndex;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.PistonBlockEntity;
-import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
@@ -43,8 +41,10 @@ public class PistonBlockEntityMixin {
 	)
 	private static void onTick(World world, BlockPos pos, BlockState state, PistonBlockEntity blockEntity, CallbackInfo ci) {
 		if (blockEntity.getMovedBlockState().getBlock() instanceof SeatBlock) {
-			// Please help me
-			world.getEntitiesByClass(SeatEntity.class, new Box(pos), Entity::hasPassengers).forEach(seat -> seat.setTimeout(false));
+			var seat = SeatIndex.get(world, pos);
+
+			if (seat != null)
+				seat.setTimeout(false);
 		}
 	}
 }
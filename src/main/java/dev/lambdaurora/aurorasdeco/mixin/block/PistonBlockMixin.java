@@ -18,13 +18,11 @@
 package dev.lambdaurora.aurorasdeco.mixin.block;
 
 import dev.lambdaurora.aurorasdeco.block.SeatBlock;
-import dev.lambdaurora.aurorasdeco.entity.SeatEntity;
+import dev.lambdaurora.aurorasdeco.entity.SeatIndex;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.PistonBlock;
 import net.minecraft.block.piston.PistonHandler;
-import net.minecraft.entity.Entity;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
@@ -52,23 +50,15 @@ public abstract class PistonBlockMixin {
 			Direction moveDir, int j, int l,
 			BlockPos currentPos, BlockState currentState) {
 		if (currentState.getBlock() instanceof SeatBlock && !world.isClient()) {
-			var seats = world.getEntitiesByClass(SeatEntity.class,
-					new Box(
-							currentPos.getX() - moveDir.getOffsetX(),
-							currentPos.getY() - moveDir.getOffsetY(),
-							currentPos.getZ() - moveDir.getOffsetZ(),
-							currentPos.getX() + 1 - moveDir.getOffsetX(),
-							currentPos.getY() + 1 - moveDir.getOffsetY(),
-							currentPos.getZ() + 1 - moveDir.getOffsetZ()),
-					Entity::hasPassengers
-			);
+			var seat = SeatIndex.get(world, currentPos.offset(moveDir.getOpposite()));
 
-			for (var seat : seats) {
+			if (seat != null && seat.hasPassengers()) {
 				seat.refreshPositionAndAngles(
 						seat.getX() + moveDir.getOffsetX(), seat.getY() + moveDir.getOffsetY(), seat.getZ() + moveDir.getOffsetZ(),
 						seat.getYaw(), seat.getPitch()
 				);
 				seat.setTimeout(true);
+				seat.attachTo(currentPos);
 			}
 		}
 	}
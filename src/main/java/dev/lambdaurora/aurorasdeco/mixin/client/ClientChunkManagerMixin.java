@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.mixin.client;
+
+import dev.lambdaurora.aurorasdeco.client.SwayScheduler;
+import net.minecraft.client.world.ClientChunkManager;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.LightType;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@ClientOnly
+@Mixin(ClientChunkManager.class)
+public class ClientChunkManagerMixin {
+	@Inject(method = "onLightUpdate", at = @At("TAIL"))
+	private void onLightUpdate(LightType type, ChunkSectionPos pos, CallbackInfo ci) {
+		SwayScheduler.onLightUpdate(type, pos);
+	}
+}
@@ -17,8 +17,11 @@
 
 package dev.lambdaurora.aurorasdeco.mixin.client;
 
-import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
+import dev.lambdaurora.aurorasdeco.client.BlackboardImageCache;
+import dev.lambdaurora.aurorasdeco.client.BlackboardMeshManager;
+import dev.lambdaurora.aurorasdeco.client.SwayScheduler;
 import dev.lambdaurora.aurorasdeco.client.Wind;
+import dev.lambdaurora.aurorasdeco.client.particle.ParticlePool;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.world.ClientWorld;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
@@ -32,7 +35,10 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 public class MinecraftClientMixin {
 	@Inject(method = "setWorld", at = @At("HEAD"))
 	private void onSetWorld(ClientWorld world, CallbackInfo ci) {
-		BlackboardBlockEntity.onWorldChange(world);
+		BlackboardMeshManager.reset();
+		BlackboardImageCache.clear();
 		Wind.get().reset();
+		SwayScheduler.clear();
+		ParticlePool.clearAll();
 	}
 }
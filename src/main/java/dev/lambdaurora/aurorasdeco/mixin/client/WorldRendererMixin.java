@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.mixin.client;
+
+import dev.lambdaurora.aurorasdeco.block.entity.MeshBakedBlockEntity;
+import net.minecraft.client.render.WorldRenderer;
+import net.minecraft.client.render.chunk.ChunkBuilder;
+import org.quiltmc.loader.api.minecraft.ClientOnly;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@ClientOnly
+@Mixin(WorldRenderer.class)
+public class WorldRendererMixin {
+	@Inject(method = "addBuiltChunk", at = @At("HEAD"))
+	private void onAddBuiltChunk(ChunkBuilder.BuiltChunk chunk, CallbackInfo ci) {
+		// The rebuilt data of the chunk section is set right before, once its mesh has been uploaded.
+		for (var blockEntity : chunk.getData().getBlockEntities()) {
+			if (blockEntity instanceof MeshBakedBlockEntity meshBaked) {
+				meshBaked.onChunkMeshUploaded();
+			}
+		}
+	}
+}
@@ -62,7 +62,7 @@ public class HoneycombItemMixin {
 				blockEntity.readBlackBoardNbt(aurorasdeco$blockEntityData.get());
 				if (!world.isClient()) {
 					blockEntity.markDirty();
-					blockEntity.sync();
+					blockEntity.markSyncDirty();
 				}
 				aurorasdeco$blockEntityData.remove();
 			}
@@ -18,18 +18,29 @@
 package dev.lambdaurora.aurorasdeco.registry;
 
 import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImage;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardPixelDelta;
+import dev.lambdaurora.aurorasdeco.block.entity.SlotSyncedBlockEntity;
+import dev.lambdaurora.aurorasdeco.client.BlackboardImageCache;
+import dev.lambdaurora.aurorasdeco.client.Wind;
 import dev.lambdaurora.aurorasdeco.client.screen.SignPostEditScreen;
 import dev.lambdaurora.aurorasdeco.item.PainterPaletteItem;
+import dev.lambdaurora.aurorasdeco.world.WindField;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.item.ItemStack;
 import net.minecraft.network.PacketByteBuf;
+import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayNetworkHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.quiltmc.qsl.networking.api.PacketByteBufs;
 import org.quiltmc.qsl.networking.api.PacketSender;
+import org.quiltmc.qsl.networking.api.PlayerLookup;
 import org.quiltmc.qsl.networking.api.client.ClientPlayNetworking;
 
 /**
@@ -44,10 +55,59 @@ public final class AurorasDecoPackets {
 		throw new UnsupportedOperationException("Someone tried to instantiate a static-only class. How?");
 	}
 
+	public static final Identifier BLOCK_ENTITY_SLOTS = AurorasDeco.id("block_entity/slots");
+	public static final Identifier BLACKBOARD_IMAGES = AurorasDeco.id("blackboard/images");
+	public static final Identifier BLACKBOARD_IMAGE_REQUEST = AurorasDeco.id("blackboard/image_request");
+	public static final Identifier BLACKBOARD_PIXELS = AurorasDeco.id("blackboard/pixels");
 	public static final Identifier SIGN_POST_OPEN_GUI = AurorasDeco.id("sign_post/open_gui");
 	public static final Identifier SIGN_POST_OPEN_GUI_FAIL = AurorasDeco.id("sign_post/open_gui/fail");
 	public static final Identifier SIGN_POST_SET_TEXT = AurorasDeco.id("sign_post/set_text");
 	public static final Identifier PAINTER_PALETTE_SCROLL = AurorasDeco.id("painter_palette/scroll");
+	public static final Identifier WIND_STATE = AurorasDeco.id("wind/state");
+
+	/**
+	 * The maximum number of blackboard images which can be requested per packet.
+	 */
+	public static final int MAX_BLACKBOARD_IMAGE_REQUESTS = 256;
+
+	public static void handleBlackboardImageRequestPacket(MinecraftServer server, ServerPlayerEntity player, ServerPlayNetworkHandler handler,
+			PacketByteBuf buf, PacketSender responseSender) {
+		int count = buf.readVarInt();
+		if (count > MAX_BLACKBOARD_IMAGE_REQUESTS)
+			return; // Don't let clients make the server sync arbitrary amounts of images.
+
+		var requestedIds = new int[count];
+		var positions = new BlockPos[count];
+		for (int i = 0; i < count; i++) {
+			requestedIds[i] = buf.readVarInt();
+			positions[i] = buf.readBlockPos();
+		}
+
+		server.execute(() -> {
+			var world = player.getWorld();
+			var response = PacketByteBufs.create();
+			response.writeVarInt(count);
+
+			for (int i = 0; i < count; i++) {
+				var pos = positions[i];
+				response.writeVarInt(requestedIds[i]);
+				response.writeBlockPos(pos);
+
+				// Only give the images of the blackboards the player can see, without loading any chunk.
+				var blackboard = world.isChunkLoaded(pos) ? AurorasDecoRegistry.BLACKBOARD_BLOCK_ENTITY_TYPE.get(world, pos) : null;
+				if (blackboard == null || !PlayerLookup.tracking(blackboard).contains(player)) {
+					response.writeVarInt(0);
+					continue;
+				}
+
+				var image = blackboard.getStoredImage();
+				response.writeVarInt(image.getId());
+				image.getImage().write(response);
+			}
+
+			responseSender.sendPacket(BLACKBOARD_IMAGES, response);
+		});
+	}
 
 	public static void handleSignPostOpenGuiFailPacket(MinecraftServer server, ServerPlayerEntity player, ServerPlayNetworkHandler handler,
 			PacketByteBuf buf, PacketSender responseSender) {
@@ -98,12 +158,95 @@ public final class AurorasDecoPackets {
 		});
 	}
 
+	/**
+	 * Creates the packet syncing the state of the wind of a world.
+	 *
+	 * @param world the world
+	 * @param field the wind field of the world
+	 * @return the packet content
+	 */
+	public static PacketByteBuf createWindStatePacket(RegistryKey<World> world, WindField field) {
+		var buf = PacketByteBufs.create();
+		buf.writeIdentifier(world.getValue());
+		field.writeState(buf);
+		return buf;
+	}
+
 	@ClientOnly
 	public static final class Client {
 		private Client() {
 			throw new UnsupportedOperationException("Someone tried to instantiate a static-only class. How?");
 		}
 
+		public static void handleBlackboardImagesPacket(MinecraftClient client, ClientPlayNetworkHandler handler,
+				PacketByteBuf buf, PacketSender responseSender) {
+			int count = buf.readVarInt();
+			var requestedIds = new int[count];
+			var positions = new BlockPos[count];
+			var ids = new int[count];
+			var images = new BlackboardImage[count];
+
+			for (int i = 0; i < count; i++) {
+				requestedIds[i] = buf.readVarInt();
+				positions[i] = buf.readBlockPos();
+				ids[i] = buf.readVarInt();
+				if (ids[i] != 0)
+					images[i] = BlackboardImage.read(buf);
+			}
+
+			client.execute(() -> {
+				for (int i = 0; i < count; i++) {
+					BlackboardImageCache.onImageReceived(requestedIds[i], positions[i], ids[i], images[i]);
+				}
+			});
+		}
+
+		public static void handleWindStatePacket(MinecraftClient client, ClientPlayNetworkHandler handler,
+				PacketByteBuf buf, PacketSender responseSender) {
+			var world = buf.readIdentifier();
+			var field = WindField.readState(buf);
+
+			client.execute(() -> Wind.get().onFieldReceived(world, field));
+		}
+
+		public static void handleBlackboardPixelsPacket(MinecraftClient client, ClientPlayNetworkHandler handler,
+				PacketByteBuf buf, PacketSender responseSender) {
+			var pos = buf.readBlockPos();
+			var delta = BlackboardPixelDelta.read(buf);
+
+			client.execute(() -> {
+				var blackboard = AurorasDecoRegistry.BLACKBOARD_BLOCK_ENTITY_TYPE.get(client.world, pos);
+				if (blackboard == null)
+					return; // Blackboard is not here.
+
+				blackboard.applyPixelDelta(delta);
+			});
+		}
+
+		public static void handleBlockEntitySlotsPacket(MinecraftClient client, ClientPlayNetworkHandler handler,
+				PacketByteBuf buf, PacketSender responseSender) {
+			var pos = buf.readBlockPos();
+			int count = buf.readVarInt();
+			var slots = new int[count];
+			var stacks = new ItemStack[count];
+
+			for (int i = 0; i < count; i++) {
+				slots[i] = buf.readUnsignedByte();
+				stacks[i] = buf.readItemStack();
+			}
+
+			client.execute(() -> {
+				if (client.world == null || !(client.world.getBlockEntity(pos) instanceof SlotSyncedBlockEntity blockEntity))
+					return; // Block entity is not here.
+
+				for (int i = 0; i < count; i++) {
+					blockEntity.setSyncedStack(slots[i], stacks[i]);
+				}
+
+				blockEntity.onSlotsSynced();
+			});
+		}
+
 		public static void handleSignPostOpenGuiPacket(MinecraftClient client, ClientPlayNetworkHandler handler,
 				PacketByteBuf buf, PacketSender responseSender) {
 			var pos = buf.readBlockPos();
@@ -17,24 +17,33 @@
 
 package dev.lambdaurora.aurorasdeco.tooltip;
 
-import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
+import dev.lambdaurora.aurorasdeco.client.BlackboardTexture;
 import dev.lambdaurora.aurorasdeco.client.tooltip.BlackboardTooltipComponent;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.gui.tooltip.TooltipComponent;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
 import org.quiltmc.loader.api.minecraft.ClientOnly;
 import org.quiltmc.qsl.tooltip.api.ConvertibleTooltipData;
 
 /**
  * Represents the blackboard tooltip data. Used to build the {@link BlackboardTooltipComponent} on the client.
+ * <p>
+ * The drawing is only decoded by the client, through the image remembered for the stack.
  *
+ * @param background the name of the background texture
+ * @param stack the blackboard item stack
+ * @param nbt the block entity NBT of the stack
+ * @param locked {@code true} if the blackboard is locked, or {@code false} otherwise
+
  * @author LambdAurora
  * @version 1.0.0
  * @since 1.0.0
  */
-public record BlackboardTooltipData(String background, Blackboard blackboard, boolean locked) implements ConvertibleTooltipData {
+public record BlackboardTooltipData(String background, ItemStack stack, NbtCompound nbt, boolean locked) implements ConvertibleTooltipData {
 	@ClientOnly
 	public TooltipComponent toComponent() {
-		return new BlackboardTooltipComponent(this.background(), this.blackboard(), this.locked());
+		return new BlackboardTooltipComponent(this.background(), BlackboardTexture.getImage(this.stack(), this.nbt()), this.locked());
 	}
 }
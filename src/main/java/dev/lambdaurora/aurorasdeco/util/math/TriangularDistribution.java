@@ -17,32 +17,26 @@
 
 package dev.lambdaurora.aurorasdeco.util.math;
 
-import org.jetbrains.annotations.Nullable;
-
-import java.util.Random;
-
 /**
  * Represents a triangular distribution.
  */
 public final class TriangularDistribution {
-	private final float a, b, c;
-	private final Random random;
-	private final float f;
-
-	public TriangularDistribution(float a, float b, float c, @Nullable Random random) {
-		if (!(a < b) || !(a <= c && c <= b))
-			throw new IllegalArgumentException("Parameters should be a <= b <= c, had a=" + a + " b=" + b + " c=" + c);
-
-		this.a = a;
-		this.b = b;
-		this.c = c;
-		this.f = (c - a) / (b - a);
-		this.random = random == null ? new Random() : random;
+	private TriangularDistribution() {
+		throw new UnsupportedOperationException("TriangularDistribution only contains static definitions.");
 	}
 
-	public float sample() {
-		float u = this.random.nextFloat();
-		if (u < this.f) return this.a + (float) Math.sqrt(u * (this.b - this.a) * (this.c - this.a));
-		return this.b - (float) Math.sqrt((1 - u) * (this.b - this.a) * (this.b - this.c));
+	/**
+	 * Samples a triangular distribution from the given uniform value.
+	 *
+	 * @param a the lower limit
+	 * @param b the upper limit
+	 * @param c the mode
+	 * @param u a value uniformly distributed between {@code 0} and {@code 1}
+	 * @return the sample
+	 */
+	public static float sample(float a, float b, float c, float u) {
+		float f = (c - a) / (b - a);
+		if (u < f) return a + (float) Math.sqrt(u * (b - a) * (c - a));
+		return b - (float) Math.sqrt((1 - u) * (b - a) * (b - c));
 	}
 }
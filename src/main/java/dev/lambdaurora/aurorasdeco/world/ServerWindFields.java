@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.world;
+
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoPackets;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.biome.source.BiomeAccess;
+import net.minecraft.world.World;
+import org.quiltmc.qsl.networking.api.PacketSender;
+import org.quiltmc.qsl.networking.api.PlayerLookup;
+import org.quiltmc.qsl.networking.api.ServerPlayNetworking;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the authoritative wind fields of the worlds of the server.
+ * <p>
+ * Only the seed and the state transitions of the wind are sent to clients, which evaluate the wind themselves.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ServerWindFields {
+	private static final Map<RegistryKey<World>, WindField> FIELDS = new HashMap<>();
+
+	private ServerWindFields() {
+		throw new UnsupportedOperationException("ServerWindFields only contains static definitions.");
+	}
+
+	/**
+	 * {@return the wind field of the given world}
+	 * <p>
+	 * The seed of the wind is sent to clients, so it is derived from the world seed with a one-way hash,
+	 * like the hashed seed of {@link BiomeAccess}.
+	 *
+	 * @param world the world
+	 */
+	public static WindField get(ServerWorld world) {
+		return FIELDS.computeIfAbsent(world.getRegistryKey(),
+				key -> new WindField(BiomeAccess.hashSeed(world.getSeed() ^ key.getValue().hashCode()))
+		);
+	}
+
+	/**
+	 * Ticks the state of the wind of the given world, and sends it to every player if it has changed.
+	 *
+	 * @param server the server
+	 * @param world the world
+	 */
+	public static void tick(MinecraftServer server, ServerWorld world) {
+		var field = get(world);
+
+		if (field.tickState(world)) {
+			ServerPlayNetworking.send(PlayerLookup.all(server), AurorasDecoPackets.WIND_STATE,
+					AurorasDecoPackets.createWindStatePacket(world.getRegistryKey(), field));
+		}
+	}
+
+	/**
+	 * Sends the wind of every world to a joining player.
+	 */
+	public static void onPlayReady(ServerPlayNetworkHandler handler, PacketSender sender, MinecraftServer server) {
+		for (var world : server.getWorlds()) {
+			sender.sendPacket(AurorasDecoPackets.WIND_STATE, AurorasDecoPackets.createWindStatePacket(world.getRegistryKey(), get(world)));
+		}
+	}
+
+	/**
+	 * Forgets every wind field, used when the server stops.
+	 */
+	public static void clear() {
+		FIELDS.clear();
+	}
+}
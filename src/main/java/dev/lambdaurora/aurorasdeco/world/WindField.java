@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.world;
+
+import dev.lambdaurora.aurorasdeco.util.math.SmoothNoise;
+import dev.lambdaurora.aurorasdeco.util.math.TriangularDistribution;
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Represents the wind of a world, varying over time and space.
+ * <p>
+ * The wind is evaluated on a coarse grid of nodes {@value #CELL_SIZE} blocks apart, around a center, once per tick.
+ * Consumers sample the {@linkplain Grid grid} with bilinear lookups.
+ * <p>
+ * The wind only depends on the seed, the state of the wind and the world time, the server is authoritative over the seed
+ * and the state transitions, and every client evaluates the same wind from them.
+ *
+ * @author LambdAurora
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class WindField {
+	/**
+	 * The distance in blocks between two nodes of the grid.
+	 */
+	public static final int CELL_SIZE = 64;
+	/**
+	 * The amount of nodes on each side of the grid.
+	 */
+	public static final int GRID_SIZE = 9;
+	private static final int VELOCITY_INTERVAL = 2 * 20; // Ticks
+	private static final int DIRECTION_INTERVAL = 10 * 20; // Ticks
+	private static final int DIRECTION_TREND_INTERVAL = 30 * 60 * 20; // Ticks
+	private static final int STATE_DURATION = 6 * 60 * 20; // Ticks
+
+	private final long seed;
+	private final Random random;
+	private State state = State.CALM;
+	private State previousState = State.CALM;
+	private long stateChangeTime = Long.MIN_VALUE;
+
+	private boolean wasRaining;
+	private boolean wasThundering;
+	private int stateDuration; // Ticks
+
+	private Grid grid = Grid.EMPTY;
+
+	public WindField(long seed) {
+		this.seed = seed;
+		this.random = new Random(seed);
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public State getState() {
+		return this.state;
+	}
+
+	/**
+	 * {@return the state of the wind at the given time}
+	 *
+	 * @param time the world time
+	 */
+	public State getState(long time) {
+		return time >= this.stateChangeTime ? this.state : this.previousState;
+	}
+
+	/**
+	 * Sets the state of the wind, as sent by the server.
+	 *
+	 * @param state the new state
+	 * @param previousState the state before the change
+	 * @param time the world time of the change
+	 */
+	public void setState(State state, State previousState, long time) {
+		this.state = state;
+		this.previousState = previousState;
+		this.stateChangeTime = time;
+	}
+
+	/**
+	 * {@return the grid evaluated during the last tick}
+	 */
+	public Grid getGrid() {
+		return this.grid;
+	}
+
+	/**
+	 * Ticks the state of the wind according to the weather of the given world.
+	 * <p>
+	 * This is done by the server, or by the client if the server does not send the state of the wind.
+	 *
+	 * @param world the world
+	 * @return {@code true} if the state has changed, or {@code false} otherwise
+	 */
+	public boolean tickState(World world) {
+		var dimensionType = world.getDimension();
+
+		if (!dimensionType.natural() || dimensionType.hasCeiling()) {
+			// Nether-like dimensions are windy, others have no wind.
+			var state = dimensionType.ultraWarm() ? State.WINDY : State.CALM;
+			if (state == this.state)
+				return false;
+
+			this.setState(state, this.state, world.getTime());
+			return true;
+		}
+
+		this.stateDuration--;
+
+		boolean raining = world.getProperties().isRaining();
+		boolean thundering = world.isThundering();
+		boolean weatherChanged = this.wasRaining != raining || this.wasThundering != thundering;
+
+		this.wasRaining = raining;
+		this.wasThundering = thundering;
+
+		if (weatherChanged || this.stateDuration <= 0) {
+			State state;
+			if (thundering) {
+				state = State.STORMY;
+			} else {
+				// Windy and stormy when raining, calm and windy otherwise.
+				int index = this.random.nextInt(2);
+				state = State.VALUES.get(raining ? index + 1 : index);
+			}
+
+			this.stateDuration = STATE_DURATION; // Change state every 6 minutes.
+
+			if (state != this.state) {
+				this.setState(state, this.state, world.getTime());
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Evaluates the wind on the grid around the given center.
+	 *
+	 * @param time the world time
+	 * @param centerX the X-coordinate of the center of the grid
+	 * @param centerZ the Z-coordinate of the center of the grid
+	 * @return the evaluated grid
+	 */
+	public Grid tick(long time, double centerX, double centerZ) {
+		int originCellX = MathHelper.floor(centerX / CELL_SIZE) - GRID_SIZE / 2;
+		int originCellZ = MathHelper.floor(centerZ / CELL_SIZE) - GRID_SIZE / 2;
+
+		var windX = new float[GRID_SIZE * GRID_SIZE];
+		var windZ = new float[GRID_SIZE * GRID_SIZE];
+
+		// The trend of the direction is shared by the whole world.
+		long trendKey = Math.floorDiv(time, DIRECTION_TREND_INTERVAL);
+		float trendDelta = (float) Math.floorMod(time, DIRECTION_TREND_INTERVAL) / DIRECTION_TREND_INTERVAL;
+		float trendLeft = this.random(0, 0, trendKey, 0) * MathHelper.TAU;
+		float trendRight = this.random(0, 0, trendKey + 1, 0) * MathHelper.TAU;
+		float trendChange = trendRight - trendLeft;
+		// Turn by the shortest way.
+		if (trendChange > MathHelper.PI) trendChange -= MathHelper.TAU;
+		else if (trendChange < -MathHelper.PI) trendChange += MathHelper.TAU;
+		float trend = trendLeft + trendDelta * trendChange;
+
+		long velocityKey = Math.floorDiv(time, VELOCITY_INTERVAL);
+		float velocityDelta = SmoothNoise.smoothStep((float) Math.floorMod(time, VELOCITY_INTERVAL) / VELOCITY_INTERVAL);
+		var leftState = this.getState(velocityKey * VELOCITY_INTERVAL);
+		var rightState = this.getState((velocityKey + 1) * VELOCITY_INTERVAL);
+
+		long directionKey = Math.floorDiv(time, DIRECTION_INTERVAL);
+		float directionLerpDelta = (float) Math.floorMod(time, DIRECTION_INTERVAL) / DIRECTION_INTERVAL;
+		float directionSmoothDelta = SmoothNoise.smoothStep(directionLerpDelta);
+
+		for (int z = 0; z < GRID_SIZE; z++) {
+			for (int x = 0; x < GRID_SIZE; x++) {
+				int cellX = originCellX + x;
+				int cellZ = originCellZ + z;
+
+				float velocityLeft = leftState.sampleVelocity(this.random(cellX, cellZ, velocityKey, 1));
+				float velocityRight = rightState.sampleVelocity(this.random(cellX, cellZ, velocityKey + 1, 1));
+				float strength = velocityLeft + velocityDelta * (velocityRight - velocityLeft);
+
+				float directionLeft = (2.f * this.random(cellX, cellZ, directionKey, 2) - 1.f) * MathHelper.TAU / 8.f;
+				float directionRight = (2.f * this.random(cellX, cellZ, directionKey + 1, 2) - 1.f) * MathHelper.TAU / 8.f;
+				float direction = trend
+						+ directionLeft + directionLerpDelta * (directionRight - directionLeft)
+						+ directionLeft + directionSmoothDelta * (directionRight - directionLeft);
+
+				int index = z * GRID_SIZE + x;
+				windX[index] = strength * MathHelper.cos(direction);
+				windZ[index] = strength * MathHelper.sin(direction);
+			}
+		}
+
+		this.grid = new Grid(originCellX * CELL_SIZE, originCellZ * CELL_SIZE, windX, windZ);
+		return this.grid;
+	}
+
+	/**
+	 * {@return a deterministic random value between {@code 0} and {@code 1} for the given node and key}
+	 */
+	private float random(int cellX, int cellZ, long key, int salt) {
+		long hash = HashCommon.murmurHash3(this.seed ^ salt);
+		hash = HashCommon.murmurHash3(hash ^ cellX);
+		hash = HashCommon.murmurHash3(hash ^ cellZ);
+		hash = HashCommon.murmurHash3(hash ^ key);
+		return (hash >>> 40) * 0x1.0p-24f;
+	}
+
+	/* Serialization */
+
+	public void writeState(PacketByteBuf buf) {
+		buf.writeLong(this.seed);
+		buf.writeEnumConstant(this.state);
+		buf.writeEnumConstant(this.previousState);
+		buf.writeLong(this.stateChangeTime);
+	}
+
+	/**
+	 * Reads a wind field with the state written by {@link #writeState(PacketByteBuf)}.
+	 *
+	 * @param buf the buffer to read from
+	 * @return the wind field
+	 */
+	public static WindField readState(PacketByteBuf buf) {
+		var field = new WindField(buf.readLong());
+		var state = buf.readEnumConstant(State.class);
+		var previousState = buf.readEnumConstant(State.class);
+		field.setState(state, previousState, buf.readLong());
+		return field;
+	}
+
+	/**
+	 * Represents the wind evaluated on a grid of nodes, it is immutable.
+	 *
+	 * @param originX the X-coordinate of the first node
+	 * @param originZ the Z-coordinate of the first node
+	 * @param windX the wind on the X-axis of each node
+	 * @param windZ the wind on the Z-axis of each node
+	 */
+	public record Grid(int originX, int originZ, float[] windX, float[] windZ) {
+		public static final Grid EMPTY = new Grid(0, 0, new float[GRID_SIZE * GRID_SIZE], new float[GRID_SIZE * GRID_SIZE]);
+
+		/**
+		 * {@return the wind on the X-axis at the given position}
+		 *
+		 * @param x the X-coordinate
+		 * @param z the Z-coordinate
+		 */
+		public float getWindX(double x, double z) {
+			return this.sample(this.windX, x, z);
+		}
+
+		/**
+		 * {@return the wind on the Z-axis at the given position}
+		 *
+		 * @param x the X-coordinate
+		 * @param z the Z-coordinate
+		 */
+		public float getWindZ(double x, double z) {
+			return this.sample(this.windZ, x, z);
+		}
+
+		private float sample(float[] values, double x, double z) {
+			// Positions outside the grid take the wind of the closest edge.
+			float gridX = MathHelper.clamp((float) ((x - this.originX) / CELL_SIZE), 0.f, GRID_SIZE - 1);
+			float gridZ = MathHelper.clamp((float) ((z - this.originZ) / CELL_SIZE), 0.f, GRID_SIZE - 1);
+			int nodeX = Math.min((int) gridX, GRID_SIZE - 2);
+			int nodeZ = Math.min((int) gridZ, GRID_SIZE - 2);
+
+			float deltaX = gridX - nodeX;
+			float deltaZ = gridZ - nodeZ;
+
+			int index = nodeZ * GRID_SIZE + nodeX;
+			float north = MathHelper.lerp(deltaX, values[index], values[index + 1]);
+			float south = MathHelper.lerp(deltaX, values[index + GRID_SIZE], values[index + GRID_SIZE + 1]);
+			return MathHelper.lerp(deltaZ, north, south);
+		}
+	}
+
+	public enum State {
+		CALM(0.05f, 0.05f, 0.2f),
+		WINDY(0.05f, 0.3f, 0.7f),
+		STORMY(0.05f, 0.6f, 1.1f);
+
+		public static final List<State> VALUES = List.of(values());
+
+		private final float minSpeed;
+		private final float likelySpeed;
+		private final float maxSpeed;
+
+		State(float minSpeed, float likelySpeed, float maxSpeed) {
+			this.minSpeed = minSpeed;
+			this.likelySpeed = likelySpeed;
+			this.maxSpeed = maxSpeed;
+		}
+
+		/**
+		 * {@return the wind velocity sampled from the triangular distribution of this state}
+		 *
+		 * @param u a value uniformly distributed between {@code 0} and {@code 1}
+		 */
+		public float sampleVelocity(float u) {
+			return TriangularDistribution.sample(this.minSpeed, this.maxSpeed, this.likelySpeed, u);
+		}
+	}
+}
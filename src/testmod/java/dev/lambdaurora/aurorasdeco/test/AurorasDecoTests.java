@@ -24,7 +24,10 @@ public class AurorasDecoTests implements QuiltGameTest {
 	@Override
 	public void registerTests(TestRegistrationContext context) {
 		context.register(
+				BlackboardTest.class,
+				BlockEntitySyncTest.class,
 				CopperHopperTest.class,
+				LanternTest.class,
 				RedstoneLanternTest.class,
 				ShelfTest.class,
 				SturdyStoneTest.class
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.test;
+
+import dev.lambdaurora.aurorasdeco.blackboard.Blackboard;
+import dev.lambdaurora.aurorasdeco.blackboard.BlackboardImage;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.test.GameTest;
+import net.minecraft.test.GameTestException;
+import org.quiltmc.qsl.testing.api.game.QuiltTestContext;
+import org.quiltmc.qsl.testing.api.game.TestStructureNamePrefix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+@TestStructureNamePrefix("aurorasdeco:blackboard/")
+public class BlackboardTest {
+	private static final int FUZZ_ITERATIONS = 10000;
+
+	@GameTest(structureName = "empty", batchId = "blackboard")
+	public void testSerializationFuzz(QuiltTestContext context) {
+		var random = new Random(0xb1ac6b0a);
+
+		for (int iteration = 0; iteration < FUZZ_ITERATIONS; iteration++) {
+			int version = random.nextInt(4);
+			var expected = new short[256];
+			var nbt = new NbtCompound();
+
+			switch (version) {
+				case 0 -> nbt.putByteArray("pixels", randomVersion0(random, expected));
+				case 1 -> {
+					nbt.putInt("version", 1);
+					nbt.putByteArray("pixels", randomVersion1(random, expected));
+				}
+				case 2 -> {
+					nbt.putInt("version", 2);
+					nbt.putByteArray("pixels", randomVersion2(random, expected));
+				}
+				default -> {
+					// Any raw color, including ones the version 2 format cannot represent.
+					randomDrawing(random, expected, () -> (short) random.nextInt(1 << 16));
+					var blackboard = new Blackboard();
+					System.arraycopy(expected, 0, blackboard.getPixels(), 0, expected.length);
+					blackboard.writeNbt(nbt);
+				}
+			}
+
+			var blackboard = Blackboard.fromNbt(nbt);
+			expectPixels(expected, blackboard, "reading version " + version, iteration);
+
+			var written = blackboard.writeNbt(new NbtCompound());
+			expectPixels(expected, Blackboard.fromNbt(written), "round-trip of version " + version, iteration);
+		}
+
+		context.complete();
+	}
+
+	@GameTest(structureName = "empty", batchId = "blackboard")
+	public void testSerializationSize(QuiltTestContext context) {
+		var blackboard = new Blackboard();
+		Arrays.fill(blackboard.getPixels(), (short) 0x0500);
+
+		var nbt = blackboard.writeNbt(new NbtCompound());
+		if (nbt.getInt("version") != 3 || nbt.getByteArray("pixels").length != 5) {
+			throw new GameTestException("Expected a filled blackboard to be encoded as a single run, got "
+					+ nbt.getByteArray("pixels").length + " bytes in version " + nbt.getInt("version") + ".");
+		}
+
+		context.complete();
+	}
+
+	@GameTest(structureName = "empty", batchId = "blackboard")
+	public void testImageSnapshot(QuiltTestContext context) {
+		var blackboard = new Blackboard();
+		var image = BlackboardImage.of(blackboard);
+
+		if (BlackboardImage.of(blackboard) != image)
+			throw new GameTestException("Expected the snapshot of an unmodified blackboard to be reused.");
+
+		blackboard.setPixel(3, 4, 0x0500);
+		var drawn = BlackboardImage.of(blackboard);
+		if (drawn == image || drawn.getPixel(3, 4) != 0x0500 || image.getPixel(3, 4) != 0)
+			throw new GameTestException("Expected a new snapshot once the blackboard has been drawn on.");
+
+		blackboard.setLit(true);
+		var lit = BlackboardImage.of(blackboard);
+		if (!lit.isLit() || drawn.isLit() || lit.getPixel(3, 4) != 0x0500)
+			throw new GameTestException("Expected a new lit snapshot once the blackboard has been lit.");
+
+		var copy = new Blackboard();
+		image.copyTo(copy);
+		if (BlackboardImage.of(copy) != image)
+			throw new GameTestException("Expected a blackboard sharing an image to snapshot as that image.");
+
+		context.complete();
+	}
+
+	private static void expectPixels(short[] expected, Blackboard blackboard, String step, int iteration) {
+		if (!Arrays.equals(expected, blackboard.getPixels())) {
+			throw new GameTestException("Blackboard pixels mismatch after " + step + " (iteration " + iteration + ").");
+		}
+	}
+
+	/**
+	 * Generates a random drawing, either noise, stripes or sparse strokes.
+	 */
+	private static void randomDrawing(Random random, short[] pixels, PixelSupplier colors) {
+		var palette = new short[1 + random.nextInt(random.nextBoolean() ? 4 : 32)];
+		for (int i = 1; i < palette.length; i++) {
+			palette[i] = colors.get();
+		}
+
+		int mode = random.nextInt(3);
+		int stripe = 1 + random.nextInt(16);
+		for (int i = 0; i < pixels.length; i++) {
+			pixels[i] = switch (mode) {
+				case 0 -> palette[random.nextInt(palette.length)];
+				case 1 -> palette[(i / stripe) % palette.length];
+				default -> random.nextInt(16) == 0 ? palette[random.nextInt(palette.length)] : 0;
+			};
+		}
+	}
+
+	/**
+	 * Version 0: one byte per pixel, the color identifier.
+	 */
+	private static byte[] randomVersion0(Random random, short[] expected) {
+		var data = new byte[256];
+		randomDrawing(random, expected, () -> (short) ((1 + random.nextInt(20)) << 8));
+
+		for (int i = 0; i < data.length; i++) {
+			data[i] = (byte) (expected[i] >> 8);
+		}
+
+		return data;
+	}
+
+	/**
+	 * Version 1: one byte per pixel, the color identifier times 4 plus the shade.
+	 */
+	private static byte[] randomVersion1(Random random, short[] expected) {
+		var data = new byte[256];
+		randomDrawing(random, expected, () -> (short) ((1 + random.nextInt(20)) << 8 | random.nextInt(4) << 4));
+
+		for (int i = 0; i < data.length; i++) {
+			if (expected[i] != 0) {
+				data[i] = (byte) ((expected[i] >> 8) * 4 + ((expected[i] >> 4) & 3));
+			}
+		}
+
+		return data;
+	}
+
+	/**
+	 * Version 2: one byte per empty pixel, two bytes per other pixel.
+	 */
+	private static byte[] randomVersion2(Random random, short[] expected) {
+		randomDrawing(random, expected, () -> (short) ((1 + random.nextInt(255)) << 8 | random.nextInt(256)));
+
+		int length = 0;
+		for (short pixel : expected) {
+			length += pixel == 0 ? 1 : 2;
+		}
+
+		var data = new byte[length];
+		int rawIndex = 0;
+		for (short pixel : expected) {
+			if (pixel == 0) {
+				data[rawIndex++] = 0;
+			} else {
+				data[rawIndex++] = (byte) (pixel >> 8);
+				data[rawIndex++] = (byte) (pixel & 0xff);
+			}
+		}
+
+		return data;
+	}
+
+	@FunctionalInterface
+	private interface PixelSupplier {
+		short get();
+	}
+}
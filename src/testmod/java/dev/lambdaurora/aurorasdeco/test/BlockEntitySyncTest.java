@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.test;
+
+import dev.lambdaurora.aurorasdeco.AurorasDeco;
+import dev.lambdaurora.aurorasdeco.block.ShelfBlock;
+import dev.lambdaurora.aurorasdeco.block.entity.BlackboardBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.BookPileBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.LanternBlockEntity;
+import dev.lambdaurora.aurorasdeco.block.entity.ShelfBlockEntity;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.test.GameTest;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+import org.quiltmc.qsl.networking.api.PacketByteBufs;
+import org.quiltmc.qsl.testing.api.game.QuiltTestContext;
+import org.quiltmc.qsl.testing.api.game.TestStructureNamePrefix;
+
+import java.util.Random;
+
+/**
+ * Measures the size of the block entity data sent to clients against the size of the saved data,
+ * which used to be sent as is when a chunk is loaded.
+ */
+@TestStructureNamePrefix("aurorasdeco:block_entity_sync/")
+public class BlockEntitySyncTest {
+	@GameTest(structureName = "empty", batchId = "block_entity_sync")
+	public void testSyncedNbtSize(QuiltTestContext context) {
+		var pos = BlockPos.ORIGIN;
+
+		var shelfBlock = ShelfBlock.streamShelves().findFirst().orElseThrow();
+		var shelf = new ShelfBlockEntity(pos, shelfBlock.getDefaultState());
+		for (int slot = 0; slot < shelf.size(); slot += 2) {
+			shelf.setStack(slot, new ItemStack(Items.BOOK));
+		}
+		shelf.setCustomName(Text.literal("Library"));
+		// The custom name is only shown by the screen, whose title is sent when it is opened.
+		expectReduction(context, "shelf", shelf.toSyncedNbt(), shelf.toNbt(), true);
+
+		var bookPile = new BookPileBlockEntity(pos, AurorasDecoRegistry.BOOK_PILE_BLOCK.getDefaultState());
+		bookPile.insertBook(new ItemStack(Items.BOOK));
+		bookPile.insertBook(new ItemStack(Items.WRITABLE_BOOK));
+		bookPile.insertBook(new ItemStack(Items.ENCHANTED_BOOK));
+		expectReduction(context, "book pile", bookPile.toSyncedNbt(), bookPile.toNbt(), false);
+
+		var blackboard = new BlackboardBlockEntity(pos, AurorasDecoRegistry.BLACKBOARD_BLOCK.getDefaultState());
+		var random = new Random(0xb1ac6b0a);
+		for (int y = 0; y < 16; y++) {
+			for (int x = 0; x < 16; x++) {
+				blackboard.setPixel(x, y, (1 + random.nextInt(20)) << 8);
+			}
+		}
+		// Only the identifier of the stored image is sent, the image itself is sent once per client.
+		expectReduction(context, "blackboard", blackboard.toSyncedNbt(), blackboard.toNbt(), true);
+		blackboard.markRemoved();
+
+		var lantern = new LanternBlockEntity(pos, AurorasDecoRegistry.WALL_LANTERN_BLOCK.getDefaultState());
+		expectReduction(context, "lantern", lantern.toSyncedNbt(), lantern.toNbt(), false);
+
+		context.complete();
+	}
+
+	private static void expectReduction(QuiltTestContext context, String name, NbtCompound synced, NbtCompound saved, boolean strict) {
+		int syncedSize = getSize(synced);
+		int savedSize = getSize(saved);
+
+		AurorasDeco.LOGGER.info("Synced {} data: {} bytes, saved data: {} bytes.", name, syncedSize, savedSize);
+
+		context.assertTrue(strict ? syncedSize < savedSize : syncedSize <= savedSize,
+				"Expected the synced " + name + " data (" + syncedSize + " bytes) to be "
+						+ (strict ? "smaller than" : "at most as large as") + " its saved data (" + savedSize + " bytes).");
+	}
+
+	/**
+	 * {@return the size in bytes of the given NBT once written in a packet}
+	 *
+	 * @param nbt the NBT
+	 */
+	private static int getSize(NbtCompound nbt) {
+		return PacketByteBufs.create().writeNbt(nbt).readableBytes();
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2023 LambdAurora <email@lambdaurora.dev>
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dev.lambdaurora.aurorasdeco.test;
+
+import dev.lambdaurora.aurorasdeco.block.entity.LanternBlockEntity;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
+import net.minecraft.test.GameTest;
+import net.minecraft.util.math.BlockPos;
+import org.quiltmc.qsl.testing.api.game.QuiltTestContext;
+import org.quiltmc.qsl.testing.api.game.TestStructureNamePrefix;
+
+@TestStructureNamePrefix("aurorasdeco:lantern/")
+public class LanternTest {
+	private static final BlockPos LANTERN_POS = BlockPos.create(0, 1, 0);
+
+	@GameTest(structureName = "sway", batchId = "lantern")
+	public void testFreezeSwayingLantern(QuiltTestContext context) {
+		var world = context.getWorld();
+		var lantern = AurorasDecoRegistry.WALL_LANTERN_BLOCK_ENTITY_TYPE.get(world, context.getAbsolutePos(LANTERN_POS));
+
+		if (lantern == null) {
+			context.throwPositionedException("Expected wall lantern block entity.", LANTERN_POS);
+			return;
+		}
+
+		lantern.updateSkyExposure(world);
+		context.assertTrue(lantern.canNaturallySway(), "Expected the lantern to be exposed to the sky.");
+
+		// Within the natural sway distance, the lantern sways and is rendered by its block entity renderer.
+		LanternBlockEntity.tickClient(lantern, world, 1, lantern.getNaturalSwayingAngle(), true);
+		context.assertFalse(lantern.isRenderedStatically(), "Expected the swaying lantern to be rendered dynamically.");
+
+		// The camera then jumps beyond the lantern render distance, freezing the section of the lantern.
+		context.assertTrue(LanternBlockEntity.freeze(lantern, world), "Expected the lantern at rest to be frozen.");
+		context.assertTrue(lantern.isRenderedStatically(), "Expected the frozen lantern to be rendered in the chunk mesh.");
+
+		context.complete();
+	}
+}
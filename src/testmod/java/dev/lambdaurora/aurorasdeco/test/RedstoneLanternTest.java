@@ -20,6 +20,7 @@ package dev.lambdaurora.aurorasdeco.test;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
+import net.minecraft.block.RedstoneTorchBlock;
 import net.minecraft.block.RepeaterBlock;
 import net.minecraft.block.enums.WireConnection;
 import net.minecraft.state.property.Properties;
@@ -29,6 +30,8 @@ import net.minecraft.util.math.Direction;
 import org.quiltmc.qsl.testing.api.game.QuiltTestContext;
 import org.quiltmc.qsl.testing.api.game.TestStructureNamePrefix;
 
+import java.util.function.Consumer;
+
 @TestStructureNamePrefix("aurorasdeco:redstone_lantern/")
 public class RedstoneLanternTest {
 	private static final BlockState LIT_REDSTONE_LAMP = Blocks.REDSTONE_LAMP.getDefaultState().with(Properties.LIT, true);
@@ -106,6 +109,41 @@ public class RedstoneLanternTest {
 		});
 	}
 
+	@GameTest(structureName = "clock_burnout", batchId = "redstone_lantern", timeoutTicks = 300)
+	public void testClockBurnout(QuiltTestContext context) {
+		BlockState lit = AurorasDecoRegistry.REDSTONE_LANTERN_BLOCK.getDefaultState()
+				.with(Properties.HANGING, false)
+				.with(Properties.LIT, true);
+		BlockState unlit = AurorasDecoRegistry.REDSTONE_LANTERN_BLOCK.getDefaultState()
+				.with(Properties.HANGING, false)
+				.with(Properties.LIT, false);
+
+		// Every lantern is driven by a fast clock, which turns it off once every 8 ticks.
+		for (int cycle = 0; cycle < RedstoneTorchBlock.MAX_RECENT_TOGGLES; cycle++) {
+			int start = 1 + cycle * 8;
+
+			context.runAtTick(start, () -> forEachClockLantern(pos -> context.setBlockState(pos.down(), Blocks.REDSTONE_BLOCK)));
+			context.runAtTick(start + 4, () -> forEachClockLantern(pos -> context.setBlockState(pos.down(), Blocks.POLISHED_ANDESITE)));
+		}
+
+		// The last toggle burns out every lantern, they stay off even though they are no longer powered.
+		context.runAtTick(70, () -> forEachClockLantern(pos -> context.expectBlockState(unlit, pos)));
+
+		// Once their toggles have expired, the lanterns restart.
+		context.runAtTick(70 + RedstoneTorchBlock.RESTART_DELAY, () -> {
+			forEachClockLantern(pos -> context.expectBlockState(lit, pos));
+			context.complete();
+		});
+	}
+
+	private static void forEachClockLantern(Consumer<BlockPos> action) {
+		for (int x = 0; x < 15; x += 2) {
+			for (int z = 0; z < 15; z += 2) {
+				action.accept(BlockPos.create(x, 1, z));
+			}
+		}
+	}
+
 	private static BlockState litRepeater(Direction facing) {
 		return Blocks.REPEATER.getDefaultState()
 				.with(Properties.POWERED, true)
@@ -18,12 +18,14 @@
 package dev.lambdaurora.aurorasdeco.test;
 
 import dev.lambdaurora.aurorasdeco.block.ShelfBlock;
+import dev.lambdaurora.aurorasdeco.registry.AurorasDecoRegistry;
 import dev.lambdaurora.aurorasdeco.registry.AurorasDecoTags;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemUsageContext;
 import net.minecraft.item.Items;
+import net.minecraft.loot.LootTables;
 import net.minecraft.test.GameTest;
 import net.minecraft.util.Hand;
 import net.minecraft.util.hit.BlockHitResult;
@@ -58,6 +60,24 @@ public class ShelfTest {
 		testLockRefuse(context);
 	}
 
+	@GameTest(structureName = "insertion")
+	public static void testSyncedNbtOmitsLootTable(QuiltTestContext context) {
+		var pos = BlockPos.create(1, 3, 1);
+		var shelf = AurorasDecoRegistry.SHELF_BLOCK_ENTITY_TYPE.get(context.getWorld(), context.getAbsolutePos(pos));
+
+		if (shelf == null) {
+			context.throwPositionedException("Expected shelf block entity.", pos);
+			return;
+		}
+
+		shelf.setLootTable(LootTables.SIMPLE_DUNGEON_CHEST, 0L);
+
+		context.assertTrue(!shelf.toSyncedNbt().contains("LootTable"), "Expected the synced shelf data to omit the loot table.");
+		context.assertTrue(shelf.toNbt().contains("LootTable"), "Expected the saved shelf data to keep the loot table.");
+
+		context.complete();
+	}
+
 	private static void testLockRefuse(QuiltTestContext context) {
 		var stack = new ItemStack(Items.BOOK);
 		var player = context.createMockPlayer();